@@ -0,0 +1,115 @@
+package devs.mulham.horizontalcalendar.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+import devs.mulham.horizontalcalendar.model.CalendarDay;
+import devs.mulham.horizontalcalendar.model.CalendarModel;
+import devs.mulham.horizontalcalendar.model.ZoneDays;
+
+/**
+ * {@code Utils.daysBetween}, {@code HorizontalCalendar.positionOfDate} and {@code DaysAdapter.getItem},
+ * before (legacy) and after (epoch days) over 1, 5 and 50 year ranges. Scores are per date.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateMathBenchmark {
+
+    @Param({"1", "5", "50"})
+    public int years;
+
+    private Calendar startDate;
+    private Calendar endDate;
+    private Calendar[] dates;
+    private int[] positions;
+    private int itemsCount;
+    private CalendarModel model;
+    private ZoneDays zoneDays;
+
+    @Setup
+    public void setUp() {
+        startDate = Ranges.start();
+        endDate = Ranges.end(years);
+        dates = Ranges.sampleDates(years);
+        positions = Ranges.samplePositions(years);
+
+        final int startDay = CalendarDay.epochDayOf(startDate);
+        final int endDay = CalendarDay.epochDayOf(endDate);
+        model = new CalendarModel(startDay, endDay, (Ranges.SHIFT_CELLS * 2) + 1, Calendar.SUNDAY, startDay);
+        itemsCount = model.getItemCount();
+        zoneDays = ZoneDays.systemDefault();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Ranges.SAMPLES)
+    public void daysBetweenLegacy(Blackhole blackhole) {
+        for (Calendar date : dates) {
+            // daysBetween zeroes the time of its arguments
+            blackhole.consume(Legacy.daysBetween((Calendar) startDate.clone(), (Calendar) date.clone()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Ranges.SAMPLES)
+    public void daysBetweenEpochDays(Blackhole blackhole) {
+        final int startDay = CalendarDay.epochDayOf(startDate);
+        for (Calendar date : dates) {
+            blackhole.consume(CalendarDay.epochDayOf(date) - startDay);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Ranges.SAMPLES)
+    public void positionOfDateLegacy(Blackhole blackhole) {
+        for (Calendar date : dates) {
+            blackhole.consume(Legacy.positionOfDate(startDate, endDate, (Calendar) date.clone(), Ranges.SHIFT_CELLS));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Ranges.SAMPLES)
+    public void positionOfDateModel(Blackhole blackhole) {
+        for (Calendar date : dates) {
+            blackhole.consume(model.positionOf(CalendarDay.epochDayOf(date)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Ranges.SAMPLES)
+    public void getItemLegacy(Blackhole blackhole) {
+        for (int position : positions) {
+            blackhole.consume(Legacy.getItem(startDate, itemsCount, Ranges.SHIFT_CELLS, position));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Ranges.SAMPLES)
+    public void getItemModel(Blackhole blackhole) {
+        for (int position : positions) {
+            blackhole.consume(zoneDays.toCalendar(model.getDateEngine().dayAt(position)));
+        }
+    }
+
+    /**
+     * What the adapter does now on a bind, no {@link Calendar} is created
+     */
+    @Benchmark
+    @OperationsPerInvocation(Ranges.SAMPLES)
+    public void getEpochDayModel(Blackhole blackhole) {
+        for (int position : positions) {
+            blackhole.consume(model.getDateEngine().dayAt(position));
+        }
+    }
+}
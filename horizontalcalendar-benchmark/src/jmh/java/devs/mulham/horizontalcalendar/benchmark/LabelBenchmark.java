@@ -0,0 +1,113 @@
+package devs.mulham.horizontalcalendar.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import devs.mulham.horizontalcalendar.model.CalendarDay;
+import devs.mulham.horizontalcalendar.model.DayLabelCache;
+import devs.mulham.horizontalcalendar.model.ZoneDays;
+
+/**
+ * Labels of a cell with the default formats, {@code MMM}, {@code dd} and {@code EEE}. Scores are per cell.
+ * <p>
+ * {@code android.text.format.DateFormat} does not run on the JVM, {@link SimpleDateFormat} stands for it:
+ * {@link #formatPerBind} is the legacy bind, {@link #formatCacheMiss} the {@link DayLabelCache} of the adapter
+ * label caches missing every day (one formatter and one calendar reused) and {@link #formatCacheHit} its steady state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LabelBenchmark {
+
+    private static final String[] FORMATS = {"MMM", "dd", "EEE"};
+    // a few weeks around the visible dates, like the default label cache capacity
+    private static final int CACHED_DAYS = 28;
+
+    private int[] epochDays;
+    private Calendar[] dates;
+    private SimpleDateFormat[] formatters;
+    private Calendar scratch;
+    private DayLabelCache[] hitCaches;
+    private DayLabelCache[] missCaches;
+
+    @Setup
+    public void setUp() {
+        final int startDay = CalendarDay.epochDayOf(Ranges.start());
+        final ZoneDays zoneDays = ZoneDays.systemDefault();
+        epochDays = new int[Ranges.SAMPLES];
+        dates = new Calendar[Ranges.SAMPLES];
+        for (int i = 0; i < Ranges.SAMPLES; i++) {
+            epochDays[i] = startDay + (i % CACHED_DAYS);
+            dates[i] = zoneDays.toCalendar(epochDays[i]);
+        }
+
+        formatters = new SimpleDateFormat[FORMATS.length];
+        for (int i = 0; i < FORMATS.length; i++) {
+            formatters[i] = new SimpleDateFormat(FORMATS[i], Locale.getDefault());
+        }
+        scratch = Calendar.getInstance();
+
+        hitCaches = new DayLabelCache[FORMATS.length];
+        missCaches = new DayLabelCache[FORMATS.length];
+        for (int f = 0; f < FORMATS.length; f++) {
+            hitCaches[f] = new DayLabelCache(formatterOf(formatters[f]), CACHED_DAYS);
+            // cycling over more days than the capacity, the least recently used day is always the next one
+            missCaches[f] = new DayLabelCache(formatterOf(formatters[f]), CACHED_DAYS - 1);
+            for (int d = 0; d < CACHED_DAYS; d++) {
+                hitCaches[f].get(startDay + d);
+            }
+        }
+    }
+
+    private DayLabelCache.Formatter formatterOf(final SimpleDateFormat formatter) {
+        return new DayLabelCache.Formatter() {
+            @Override
+            public CharSequence format(int epochDay) {
+                CalendarDay.setEpochDay(scratch, epochDay);
+                return formatter.format(scratch.getTime());
+            }
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Ranges.SAMPLES)
+    public void formatPerBind(Blackhole blackhole) {
+        for (Calendar date : dates) {
+            for (String format : FORMATS) {
+                blackhole.consume(new SimpleDateFormat(format, Locale.getDefault()).format(date.getTime()));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Ranges.SAMPLES)
+    public void formatCacheMiss(Blackhole blackhole) {
+        for (int epochDay : epochDays) {
+            for (DayLabelCache cache : missCaches) {
+                blackhole.consume(cache.get(epochDay));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Ranges.SAMPLES)
+    public void formatCacheHit(Blackhole blackhole) {
+        for (int epochDay : epochDays) {
+            for (DayLabelCache cache : hitCaches) {
+                blackhole.consume(cache.get(epochDay));
+            }
+        }
+    }
+}
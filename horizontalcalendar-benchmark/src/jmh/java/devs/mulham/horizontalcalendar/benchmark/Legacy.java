@@ -0,0 +1,67 @@
+package devs.mulham.horizontalcalendar.benchmark;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The date math of the library before epoch days, kept as the baseline of the benchmarks.
+ * Copied without the logging, which the JVM cannot run.
+ */
+final class Legacy {
+
+    private Legacy() {
+    }
+
+    static int daysBetween(Calendar startInclusive, Calendar endExclusive) {
+        zeroTime(startInclusive);
+        zeroTime(endExclusive);
+
+        long diff = endExclusive.getTimeInMillis() - startInclusive.getTimeInMillis(); //result in millis
+        return (int) TimeUnit.MILLISECONDS.toDays(diff);
+    }
+
+    static void zeroTime(Calendar calendar) {
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+    }
+
+    static boolean isSameDate(Calendar calendar1, Calendar calendar2) {
+        int day = calendar1.get(Calendar.DAY_OF_MONTH);
+        int month = calendar1.get(Calendar.MONTH);
+        int year = calendar1.get(Calendar.YEAR);
+
+        return (year == calendar2.get(Calendar.YEAR))
+                && (month == calendar2.get(Calendar.MONTH))
+                && (day == calendar2.get(Calendar.DAY_OF_MONTH));
+    }
+
+    static int positionOfDate(Calendar startDate, Calendar endDate, Calendar date, int shiftCells) {
+        if (date.before(startDate) || date.after(endDate)) {
+            return -1;
+        }
+
+        int position;
+        if (isSameDate(date, startDate)) {
+            position = 0;
+        } else {
+            position = daysBetween(startDate, date);
+        }
+
+        return position + shiftCells;
+    }
+
+    static Calendar getItem(Calendar startDate, int itemsCount, int shiftCells, int position) {
+        if (position >= itemsCount) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int daysDiff = position - shiftCells;
+
+        Calendar calendar = (Calendar) startDate.clone();
+        calendar.add(Calendar.DATE, daysDiff);
+
+        return calendar;
+    }
+}
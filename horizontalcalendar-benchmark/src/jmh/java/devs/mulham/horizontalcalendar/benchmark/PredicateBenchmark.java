@@ -0,0 +1,129 @@
+package devs.mulham.horizontalcalendar.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import devs.mulham.horizontalcalendar.model.CalendarDay;
+import devs.mulham.horizontalcalendar.model.DateRange;
+import devs.mulham.horizontalcalendar.model.DateRanges;
+import devs.mulham.horizontalcalendar.model.DayPredicate;
+
+/**
+ * Disabled dates of a whole 1, 5 or 50 year range, with the {@code HorizontalCalendarPredicate.Or} of
+ * a weekend predicate and a blackout periods predicate (three days every month). Scores are per range.
+ * <p>
+ * {@code HorizontalCalendarPredicate.Or} delegates its test to {@link DayPredicate.Or}, benchmarked here:
+ * the legacy run creates a calendar per date and scans a list of blackouts tested first, the current run
+ * reuses one calendar and tests the {@link DateRanges} lookup first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PredicateBenchmark {
+
+    @Param({"1", "5", "50"})
+    public int years;
+
+    private Calendar startDate;
+    private int startDay;
+    private int daysCount;
+    private DayPredicate legacyPredicate;
+    private DayPredicate predicate;
+
+    static final class Weekends implements DayPredicate {
+        @Override
+        public boolean test(Calendar date) {
+            int dayOfWeek = date.get(Calendar.DAY_OF_WEEK);
+            return (dayOfWeek == Calendar.SATURDAY) || (dayOfWeek == Calendar.SUNDAY);
+        }
+    }
+
+    static final class BlackoutList implements DayPredicate {
+
+        private final List<DateRange> ranges;
+
+        BlackoutList(List<DateRange> ranges) {
+            this.ranges = ranges;
+        }
+
+        @Override
+        public boolean test(Calendar date) {
+            int epochDay = CalendarDay.epochDayOf(date);
+            for (DateRange range : ranges) {
+                if (range.contains(epochDay)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static final class BlackoutRanges implements DayPredicate, DayPredicate.Cheap {
+
+        private final DateRanges ranges;
+
+        BlackoutRanges(DateRanges ranges) {
+            this.ranges = ranges;
+        }
+
+        @Override
+        public boolean test(Calendar date) {
+            return ranges.contains(CalendarDay.epochDayOf(date));
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        startDate = Ranges.start();
+        startDay = CalendarDay.epochDayOf(startDate);
+        daysCount = CalendarDay.epochDayOf(Ranges.end(years)) - startDay + 1;
+
+        List<DateRange> blackouts = new ArrayList<>();
+        Calendar month = Ranges.start();
+        for (int i = 0; i < years * 12; i++) {
+            int firstDay = CalendarDay.epochDayOf(month) + 10;
+            blackouts.add(new DateRange(firstDay, firstDay + 2));
+            month.add(Calendar.MONTH, 1);
+        }
+
+        legacyPredicate = new DayPredicate.Or(new BlackoutList(blackouts), new Weekends());
+        predicate = new DayPredicate.Or(new Weekends(), new BlackoutRanges(DateRanges.of(blackouts)));
+    }
+
+    @Benchmark
+    public int disabledDatesLegacy() {
+        int disabled = 0;
+        for (int i = 0; i < daysCount; i++) {
+            Calendar date = (Calendar) startDate.clone();
+            date.add(Calendar.DATE, i);
+            if (legacyPredicate.test(date)) {
+                disabled++;
+            }
+        }
+        return disabled;
+    }
+
+    @Benchmark
+    public int disabledDates() {
+        final Calendar date = Calendar.getInstance();
+        int disabled = 0;
+        for (int i = 0; i < daysCount; i++) {
+            CalendarDay.setEpochDay(date, startDay + i);
+            if (predicate.test(date)) {
+                disabled++;
+            }
+        }
+        return disabled;
+    }
+}
@@ -0,0 +1,59 @@
+package devs.mulham.horizontalcalendar.benchmark;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Random;
+
+import devs.mulham.horizontalcalendar.model.CalendarDay;
+import devs.mulham.horizontalcalendar.model.ZoneDays;
+
+/**
+ * Ranges and sample dates shared by the benchmarks, the same seed gives the same samples on every run.
+ */
+final class Ranges {
+
+    static final int SAMPLES = 1024;
+    static final int SHIFT_CELLS = 2;
+
+    private Ranges() {
+    }
+
+    static Calendar start() {
+        return new GregorianCalendar(2000, Calendar.JANUARY, 1);
+    }
+
+    static Calendar end(int years) {
+        Calendar end = start();
+        end.add(Calendar.YEAR, years);
+        end.add(Calendar.DATE, -1);
+        return end;
+    }
+
+    /**
+     * @return dates inside the range, at random times of day like the dates apps pass in
+     */
+    static Calendar[] sampleDates(int years) {
+        final Random random = new Random(42);
+        final int startDay = CalendarDay.epochDayOf(start());
+        final int days = CalendarDay.epochDayOf(end(years)) - startDay + 1;
+        final ZoneDays zoneDays = ZoneDays.systemDefault();
+
+        Calendar[] dates = new Calendar[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            dates[i] = zoneDays.toCalendar(startDay + random.nextInt(days));
+            dates[i].add(Calendar.MINUTE, random.nextInt(24 * 60));
+        }
+        return dates;
+    }
+
+    static int[] samplePositions(int years) {
+        final Random random = new Random(43);
+        final int items = CalendarDay.epochDayOf(end(years)) - CalendarDay.epochDayOf(start()) + 1 + (SHIFT_CELLS * 2);
+
+        int[] positions = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            positions[i] = random.nextInt(items);
+        }
+        return positions;
+    }
+}
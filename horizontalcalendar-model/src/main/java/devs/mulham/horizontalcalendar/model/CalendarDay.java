@@ -0,0 +1,164 @@
+package devs.mulham.horizontalcalendar.model;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Immutable handle of a single day, stored as the number of days since 1970-01-01 (epoch day).
+ * <p>
+ * Adapter, selection and predicate code pass epoch days around instead of {@link Calendar}
+ * instances, a {@link Calendar} is only created when {@link #toCalendar(ZoneDays)} is called.
+ *
+ * @since v1.4.0
+ */
+public final class CalendarDay implements Comparable<CalendarDay> {
+
+    public static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+
+    // GregorianCalendar counts the earlier dates in the Julian calendar
+    private static final int GREGORIAN_CUTOVER_YEAR = 1582;
+
+    private final int epochDay;
+
+    private CalendarDay(int epochDay) {
+        this.epochDay = epochDay;
+    }
+
+    public static CalendarDay of(int epochDay) {
+        return new CalendarDay(epochDay);
+    }
+
+    public static CalendarDay from(Calendar calendar) {
+        return new CalendarDay(epochDayOf(calendar));
+    }
+
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * @return a new {@link Calendar} of this zone set to the start of this day
+     */
+    public Calendar toCalendar(ZoneDays zoneDays) {
+        return zoneDays.toCalendar(epochDay);
+    }
+
+    /**
+     * @return a new {@link Calendar} set to the start of this day in the default time zone
+     * @deprecated a calendar may use another time zone, use {@link #toCalendar(ZoneDays)}
+     * with the zone of the calendar, see {@code HorizontalCalendar#getZoneDays()}
+     */
+    @Deprecated
+    public Calendar toCalendar() {
+        return toCalendar(epochDay);
+    }
+
+    public boolean isBefore(CalendarDay other) {
+        return epochDay < other.epochDay;
+    }
+
+    public boolean isAfter(CalendarDay other) {
+        return epochDay > other.epochDay;
+    }
+
+    @Override
+    public int compareTo(CalendarDay other) {
+        return (epochDay < other.epochDay) ? -1 : ((epochDay == other.epochDay) ? 0 : 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return (o instanceof CalendarDay) && (((CalendarDay) o).epochDay == epochDay);
+    }
+
+    @Override
+    public int hashCode() {
+        return epochDay;
+    }
+
+    @Override
+    public String toString() {
+        return "CalendarDay{" + epochDay + "}";
+    }
+
+    /**
+     * @return the epoch day of the local date held by this calendar, time of day is ignored
+     */
+    public static int epochDayOf(Calendar calendar) {
+        // exact class, subclasses such as the Buddhist calendar number their years differently
+        if ((calendar.getClass() == GregorianCalendar.class) && (calendar.get(Calendar.ERA) == GregorianCalendar.AD)
+                && (calendar.get(Calendar.YEAR) > GREGORIAN_CUTOVER_YEAR)) {
+            return epochDayOf(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH), calendar.get(Calendar.DAY_OF_MONTH));
+        }
+        long localMillis = calendar.getTimeInMillis()
+                + calendar.get(Calendar.ZONE_OFFSET)
+                + calendar.get(Calendar.DST_OFFSET);
+        return (int) floorDiv(localMillis, MILLIS_PER_DAY);
+    }
+
+    /**
+     * Civil date arithmetic, no time zone is involved so the result does not depend on DST transitions.
+     *
+     * @param month {@link Calendar#JANUARY} to {@link Calendar#DECEMBER}
+     * @return the epoch day of this date of the proleptic Gregorian calendar
+     */
+    public static int epochDayOf(int year, int month, int dayOfMonth) {
+        // years start in March, so the leap day is the last day of its year
+        final int m = month + 1;
+        final int y = (m <= 2) ? year - 1 : year;
+        final int era = ((y >= 0) ? y : y - 399) / 400;
+        final int yearOfEra = y - (era * 400);
+        final int dayOfYear = (((153 * (m + ((m > 2) ? -3 : 9))) + 2) / 5) + dayOfMonth - 1;
+        final int dayOfEra = (yearOfEra * 365) + (yearOfEra / 4) - (yearOfEra / 100) + dayOfYear;
+        return (era * 146097) + dayOfEra - 719468;
+    }
+
+    /**
+     * @return number of calendar days from the date of start to the date of end, times of day are ignored
+     */
+    public static int daysBetween(Calendar start, Calendar end) {
+        return epochDayOf(end) - epochDayOf(start);
+    }
+
+    /**
+     * @return a new {@link Calendar} set to the start of the given epoch day in the default time zone
+     * @deprecated a calendar may use another time zone, use {@link ZoneDays#toCalendar(int)}
+     */
+    @Deprecated
+    public static Calendar toCalendar(int epochDay) {
+        Calendar calendar = Calendar.getInstance();
+        setEpochDay(calendar, epochDay);
+        return calendar;
+    }
+
+    /**
+     * Move the given calendar to the start of the given epoch day, keeping its time zone.
+     */
+    public static void setEpochDay(Calendar calendar, int epochDay) {
+        calendar.setTimeInMillis(startOfDay(calendar.getTimeZone(), epochDay));
+    }
+
+    /**
+     * @return the first instant of the given epoch day in this zone
+     */
+    static long startOfDay(TimeZone zone, int epochDay) {
+        long utcMidnight = epochDay * MILLIS_PER_DAY;
+        // second lookup uses the offset in effect at local midnight rather than at UTC midnight
+        int offset = zone.getOffset(utcMidnight - zone.getOffset(utcMidnight));
+        long millis = utcMidnight - offset;
+        if (zone.getOffset(millis) != offset) {
+            // local midnight was skipped by a DST transition, the day starts at the end of the gap
+            millis = utcMidnight - zone.getOffset(millis);
+        }
+        return millis;
+    }
+
+    static long floorDiv(long x, long y) {
+        long q = x / y;
+        if (((x % y) != 0) && ((x < 0) != (y < 0))) {
+            q--;
+        }
+        return q;
+    }
+}
@@ -0,0 +1,196 @@
+package devs.mulham.horizontalcalendar.model;
+
+/**
+ * Position math of the calendar strip, without any Android dependency:
+ * the range of dates, today, the selected position, the shift cells and the week paging targets.
+ * <p>
+ * Positions are adapter positions, the range is shown after {@link #getShiftCells()} out of range cells.
+ *
+ * @since v1.4.0
+ */
+public final class CalendarModel {
+
+    private final DateEngine dateEngine;
+    private final WeekShiftTable weekShiftTable;
+    private int todayDay;
+    private int selectedPosition = -1;
+
+    /**
+     * @param startDay              first epoch day of the range
+     * @param endDay                last epoch day of the range
+     * @param numberOfDatesOnScreen number of cells visible at once
+     * @param firstDayOfWeek        first day of each week page, {@link java.util.Calendar#SUNDAY} to
+     *                              {@link java.util.Calendar#SATURDAY}
+     * @param todayDay              epoch day of today, it is selected at first
+     */
+    public CalendarModel(int startDay, int endDay, int numberOfDatesOnScreen, int firstDayOfWeek, int todayDay) {
+        this.dateEngine = new DateEngine(startDay, endDay, numberOfDatesOnScreen / 2);
+        this.weekShiftTable = new WeekShiftTable(firstDayOfWeek);
+        this.todayDay = todayDay;
+        this.selectedPosition = getTodayPosition();
+    }
+
+    public DateEngine getDateEngine() {
+        return dateEngine;
+    }
+
+    public WeekShiftTable getWeekShiftTable() {
+        return weekShiftTable;
+    }
+
+    /**
+     * @return number of out of range cells before the start day and after the end day,
+     * so the first and last days can be centered
+     */
+    public int getShiftCells() {
+        return dateEngine.getShiftCells();
+    }
+
+    public int getItemCount() {
+        return dateEngine.getItemCount();
+    }
+
+    public int getTodayDay() {
+        return todayDay;
+    }
+
+    public void setTodayDay(int todayDay) {
+        this.todayDay = todayDay;
+    }
+
+    /**
+     * @return position of today, or -1 if today is out of range
+     */
+    public int getTodayPosition() {
+        return dateEngine.positionOf(todayDay);
+    }
+
+    /**
+     * @return selected position, or -1 if none
+     */
+    public int getSelectedPosition() {
+        return selectedPosition;
+    }
+
+    public void setSelectedPosition(int selectedPosition) {
+        this.selectedPosition = selectedPosition;
+    }
+
+    /**
+     * @return epoch day at the selected position
+     * @throws IndexOutOfBoundsException if no position is selected
+     */
+    public int getSelectedDay() throws IndexOutOfBoundsException {
+        if (selectedPosition == -1) {
+            throw new IndexOutOfBoundsException("no position selected");
+        }
+        return dateEngine.dayAt(selectedPosition);
+    }
+
+    /**
+     * Change the range, the selected date is kept if still in range, otherwise the closest date is selected.
+     */
+    public void setRange(int startDay, int endDay) {
+        final int oldSelectedDay = (selectedPosition != -1) ? dateEngine.dayAt(selectedPosition) : 0;
+        dateEngine.setRange(startDay, endDay);
+        if (selectedPosition != -1) {
+            selectedPosition = dateEngine.positionOf(Math.max(startDay, Math.min(endDay, oldSelectedDay)));
+        }
+    }
+
+    /**
+     * Move the range by some days, keeping the number of items.
+     *
+     * @param keepSelection true to keep the selected date where possible, or to keep nothing selected,
+     *                      false (or if it leaves the range) to select the center position
+     */
+    public void slideRange(int deltaDays, boolean keepSelection) {
+        final int itemCount = dateEngine.getItemCount();
+        dateEngine.setRange(dateEngine.getStartDay() + deltaDays, dateEngine.getEndDay() + deltaDays);
+
+        if (keepSelection) {
+            if (selectedPosition == -1) {
+                return;
+            }
+            selectedPosition -= deltaDays;
+        }
+        if (!keepSelection || (selectedPosition < 0) || (selectedPosition >= itemCount)) {
+            selectedPosition = itemCount / 2;
+        }
+    }
+
+    /**
+     * @return position of this epoch day, or -1 if it is out of range
+     */
+    public int positionOf(int epochDay) {
+        return dateEngine.positionOf(epochDay);
+    }
+
+    /**
+     * @return index of this epoch day plus the cells left until the end of its week, or -1 if it is out of range
+     */
+    public int positionOfDayNoShift(int epochDay) {
+        final int index = dateEngine.indexOf(epochDay);
+        return (index == -1) ? -1 : index + weekShiftTable.shiftOf(epochDay);
+    }
+
+    /**
+     * @return number of cells between the date at this position and the last day of its week
+     */
+    public int shiftCellsForWeekDay(int position) {
+        return weekShiftTable.shiftOf(dateEngine.dayAt(position));
+    }
+
+    /**
+     * @return number of cells between today and the last day of its week
+     */
+    public int shiftCellsTodayWeekDay() {
+        return weekShiftTable.shiftOf(todayDay);
+    }
+
+    /**
+     * @return position of the first day of the week of the date at this position
+     */
+    public int firstPositionOfWeek(int position) {
+        return position + shiftCellsForWeekDay(position) - (WeekShiftTable.DAYS_IN_WEEK - 1);
+    }
+
+    /**
+     * @return position of the last day of the week of the date at this position
+     */
+    public int lastPositionOfWeek(int position) {
+        return position + shiftCellsForWeekDay(position);
+    }
+
+    /**
+     * Position to scroll to, so the whole week of the date at this position becomes visible:
+     * the end of its week when moving forward, the start of its week when moving backward.
+     *
+     * @param position       position of the date to show
+     * @param centerPosition position currently at the center of the strip
+     */
+    public int weekPageTarget(int position, int centerPosition) {
+        if (position > centerPosition) {
+            return lastPositionOfWeek(position);
+        } else if (position < centerPosition) {
+            return firstPositionOfWeek(position);
+        }
+        return position;
+    }
+
+    /**
+     * Position to scroll to, so this position ends up at the center of the strip.
+     */
+    public int relativeCenterPosition(int position, int centerPosition) {
+        return relativeCenterPosition(position, centerPosition, getShiftCells());
+    }
+
+    public static int relativeCenterPosition(int position, int centerPosition, int shiftCells) {
+        if (position > centerPosition) {
+            return position + shiftCells;
+        } else if (position < centerPosition) {
+            return position - shiftCells;
+        }
+        return position;
+    }
+}
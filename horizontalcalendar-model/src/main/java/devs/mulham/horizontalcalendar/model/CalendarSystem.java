@@ -0,0 +1,124 @@
+package devs.mulham.horizontalcalendar.model;
+
+/**
+ * Converts epoch days to the dates of a calendar system, for the labels and the month boundaries of the calendar.
+ * Weeks are the same in every system, only years, months and days of month differ.
+ * <p>
+ * A date is packed in a single int, read it with {@link #yearOf(int)}, {@link #monthOf(int)} and {@link #dayOfMonthOf(int)},
+ * so converting a day does not allocate. Implementations are immutable and can be shared between calendars and threads.
+ * To convert many consecutive days use {@link CalendarSystemDates}.
+ *
+ * @since v1.4.0
+ */
+public abstract class CalendarSystem {
+
+    /**
+     * The proleptic Gregorian calendar, months numbered as {@link java.util.Calendar#MONTH}
+     */
+    public static final CalendarSystem GREGORIAN = new GregorianCalendarSystem("gregorian", 0);
+
+    /**
+     * The Thai solar calendar: Gregorian months, years of the Buddhist era (543 years ahead).
+     * The years are counted from January 1st as in Thailand since 1941.
+     */
+    public static final CalendarSystem BUDDHIST = new GregorianCalendarSystem("buddhist", 543);
+
+    /**
+     * The tabular Islamic calendar, with the civil epoch (July 16th 622 of the Julian calendar).
+     * Months alternate between 30 and 29 days, 11 years of every 30 have a 30th day in the last month.
+     */
+    public static final CalendarSystem HIJRI = new TabularHijriCalendarSystem(0, null, null);
+
+    private static final int MONTH_SHIFT = 5;
+    private static final int YEAR_SHIFT = 9;
+    private static final int DAY_MASK = (1 << MONTH_SHIFT) - 1;
+    private static final int MONTH_MASK = (1 << (YEAR_SHIFT - MONTH_SHIFT)) - 1;
+
+    private final String name;
+
+    protected CalendarSystem(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Tabular Islamic calendar with custom month names, for instance in the language of the users,
+     * moved by a few days to follow a local calendar based on the moon sighting.
+     *
+     * @param dayAdjustment   days to add to the tabular dates, usually -1, 0 or 1
+     * @param monthNames      the 12 month names, or null for the English transliteration
+     * @param shortMonthNames the 12 abbreviated month names, or null for the English transliteration
+     */
+    public static CalendarSystem tabularHijri(int dayAdjustment, String[] monthNames, String[] shortMonthNames) {
+        if (((monthNames != null) && (monthNames.length != 12)) || ((shortMonthNames != null) && (shortMonthNames.length != 12))) {
+            throw new IllegalArgumentException("12 month names expected");
+        }
+        return new TabularHijriCalendarSystem(dayAdjustment, monthNames, shortMonthNames);
+    }
+
+    public static int pack(int year, int month, int dayOfMonth) {
+        return (year << YEAR_SHIFT) | (month << MONTH_SHIFT) | dayOfMonth;
+    }
+
+    public static int yearOf(int date) {
+        return date >> YEAR_SHIFT;
+    }
+
+    /**
+     * @return month of the year, counted from 0
+     */
+    public static int monthOf(int date) {
+        return (date >> MONTH_SHIFT) & MONTH_MASK;
+    }
+
+    /**
+     * @return day of the month, counted from 1
+     */
+    public static int dayOfMonthOf(int date) {
+        return date & DAY_MASK;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the date of this epoch day, packed with {@link #pack(int, int, int)}
+     */
+    public abstract int dateOf(int epochDay);
+
+    /**
+     * @param month month of the year, counted from 0
+     * @return the epoch day of this date
+     */
+    public abstract int epochDayOf(int year, int month, int dayOfMonth);
+
+    /**
+     * @param month month of the year, counted from 0
+     */
+    public abstract int lengthOfMonth(int year, int month);
+
+    public abstract int monthsInYear(int year);
+
+    /**
+     * @param month month of the year, counted from 0
+     * @return name of this month, or null if the months are the Gregorian ones, named by the locale
+     */
+    public abstract String getMonthName(int month);
+
+    /**
+     * @return abbreviated name of this month, or null if the months are the Gregorian ones, named by the locale
+     */
+    public abstract String getShortMonthName(int month);
+
+    /**
+     * @return the epoch day of the first day of the month of this epoch day
+     */
+    public int monthStartOf(int epochDay) {
+        return epochDay - dayOfMonthOf(dateOf(epochDay)) + 1;
+    }
+
+    @Override
+    public String toString() {
+        return "CalendarSystem{" + name + "}";
+    }
+}
@@ -0,0 +1,79 @@
+package devs.mulham.horizontalcalendar.model;
+
+/**
+ * Dates of a {@link CalendarSystem} for a window of consecutive days, kept in a primitive array.
+ * <p>
+ * The window is converted once, one day after the other from a single conversion, and moved around
+ * the requested day only when a day outside of it is asked for. While scrolling most lookups read one int,
+ * so an alternate calendar system costs no more per bind than the Gregorian one.
+ * Not thread safe.
+ *
+ * @since v1.4.0
+ */
+public final class CalendarSystemDates {
+
+    private final CalendarSystem calendarSystem;
+    private final int[] dates;
+    private int startDay;
+    private boolean filled;
+
+    /**
+     * @param capacity number of days converted at once
+     */
+    public CalendarSystemDates(CalendarSystem calendarSystem, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be > 0");
+        }
+        this.calendarSystem = calendarSystem;
+        this.dates = new int[capacity];
+    }
+
+    public CalendarSystem getCalendarSystem() {
+        return calendarSystem;
+    }
+
+    /**
+     * @return the date of this epoch day, read with {@link CalendarSystem#yearOf(int)},
+     * {@link CalendarSystem#monthOf(int)} and {@link CalendarSystem#dayOfMonthOf(int)}
+     */
+    public int dateOf(int epochDay) {
+        if (!filled || (epochDay < startDay) || (epochDay >= startDay + dates.length)) {
+            // centered, the scroll may go either way
+            fill(epochDay - (dates.length / 2));
+        }
+        return dates[epochDay - startDay];
+    }
+
+    /**
+     * @return the epoch day of the first day of the month of this epoch day
+     */
+    public int monthStartOf(int epochDay) {
+        return epochDay - CalendarSystem.dayOfMonthOf(dateOf(epochDay)) + 1;
+    }
+
+    public boolean isFirstDayOfMonth(int epochDay) {
+        return CalendarSystem.dayOfMonthOf(dateOf(epochDay)) == 1;
+    }
+
+    private void fill(int fromDay) {
+        final int first = calendarSystem.dateOf(fromDay);
+        int year = CalendarSystem.yearOf(first);
+        int month = CalendarSystem.monthOf(first);
+        int dayOfMonth = CalendarSystem.dayOfMonthOf(first);
+        int monthLength = calendarSystem.lengthOfMonth(year, month);
+
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = CalendarSystem.pack(year, month, dayOfMonth);
+            if (++dayOfMonth > monthLength) {
+                dayOfMonth = 1;
+                if (++month >= calendarSystem.monthsInYear(year)) {
+                    month = 0;
+                    year++;
+                }
+                monthLength = calendarSystem.lengthOfMonth(year, month);
+            }
+        }
+        startDay = fromDay;
+        filled = true;
+    }
+}
@@ -0,0 +1,82 @@
+package devs.mulham.horizontalcalendar.model;
+
+/**
+ * Maps adapter positions to epoch days and back without creating any object.
+ * <p>
+ * The range is stored as two inclusive epoch days, the adapter shows {@link #getShiftCells()}
+ * extra (out of range) cells before the start day and after the end day.
+ *
+ * @since v1.4.0
+ */
+public final class DateEngine {
+
+    private final int shiftCells;
+    private int startDay;
+    private int endDay;
+
+    public DateEngine(int startDay, int endDay, int shiftCells) {
+        this.shiftCells = shiftCells;
+        setRange(startDay, endDay);
+    }
+
+    public void setRange(int startDay, int endDay) {
+        this.startDay = startDay;
+        this.endDay = endDay;
+    }
+
+    public int getStartDay() {
+        return startDay;
+    }
+
+    public int getEndDay() {
+        return endDay;
+    }
+
+    public int getShiftCells() {
+        return shiftCells;
+    }
+
+    /**
+     * @return number of days in range, both start and end days included
+     */
+    public int getDaysCount() {
+        return endDay - startDay + 1;
+    }
+
+    /**
+     * @return number of adapter items, including the shift cells on both sides
+     */
+    public int getItemCount() {
+        return getDaysCount() + (shiftCells * 2);
+    }
+
+    /**
+     * @return epoch day shown at this adapter position
+     * @throws IndexOutOfBoundsException if position is after the last item
+     */
+    public int dayAt(int position) throws IndexOutOfBoundsException {
+        if (position >= getItemCount()) {
+            throw new IndexOutOfBoundsException("position " + position + " >= " + getItemCount());
+        }
+        return startDay + position - shiftCells;
+    }
+
+    /**
+     * @return adapter position of this epoch day, or -1 if it is out of range
+     */
+    public int positionOf(int epochDay) {
+        final int index = indexOf(epochDay);
+        return (index == -1) ? -1 : index + shiftCells;
+    }
+
+    /**
+     * @return index of this epoch day counted from the start day, or -1 if it is out of range
+     */
+    public int indexOf(int epochDay) {
+        return contains(epochDay) ? epochDay - startDay : -1;
+    }
+
+    public boolean contains(int epochDay) {
+        return (epochDay >= startDay) && (epochDay <= endDay);
+    }
+}
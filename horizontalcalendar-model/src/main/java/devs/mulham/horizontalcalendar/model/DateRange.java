@@ -0,0 +1,70 @@
+package devs.mulham.horizontalcalendar.model;
+
+import java.util.Calendar;
+
+/**
+ * Immutable range of days, both start and end days included.
+ *
+ * @since v1.4.0
+ */
+public final class DateRange {
+
+    private final int startDay;
+    private final int endDay;
+
+    /**
+     * @param startDay first epoch day of the range
+     * @param endDay   last epoch day of the range
+     */
+    public DateRange(int startDay, int endDay) {
+        if (endDay < startDay) {
+            throw new IllegalArgumentException("endDay " + endDay + " is before startDay " + startDay);
+        }
+        this.startDay = startDay;
+        this.endDay = endDay;
+    }
+
+    public static DateRange of(Calendar startDate, Calendar endDate) {
+        return new DateRange(CalendarDay.epochDayOf(startDate), CalendarDay.epochDayOf(endDate));
+    }
+
+    public static DateRange of(Calendar date) {
+        final int epochDay = CalendarDay.epochDayOf(date);
+        return new DateRange(epochDay, epochDay);
+    }
+
+    public int getStartDay() {
+        return startDay;
+    }
+
+    public int getEndDay() {
+        return endDay;
+    }
+
+    public int getDaysCount() {
+        return endDay - startDay + 1;
+    }
+
+    public boolean contains(int epochDay) {
+        return (epochDay >= startDay) && (epochDay <= endDay);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof DateRange)) {
+            return false;
+        }
+        DateRange other = (DateRange) o;
+        return (startDay == other.startDay) && (endDay == other.endDay);
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * startDay) + endDay;
+    }
+
+    @Override
+    public String toString() {
+        return "DateRange{" + startDay + ".." + endDay + "}";
+    }
+}
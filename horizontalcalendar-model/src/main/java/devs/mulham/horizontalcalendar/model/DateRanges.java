@@ -0,0 +1,121 @@
+package devs.mulham.horizontalcalendar.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable set of day ranges, merged and sorted by start day so a lookup is a binary search.
+ *
+ * @since v1.4.0
+ */
+public final class DateRanges {
+
+    private final int[] starts;
+    private final int[] ends;
+
+    private DateRanges(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    public static DateRanges of(Collection<DateRange> ranges) {
+        Builder builder = new Builder(ranges.size());
+        for (DateRange range : ranges) {
+            builder.add(range);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return true if this epoch day is inside one of the ranges, in O(log n)
+     */
+    public boolean contains(int epochDay) {
+        int low = 0;
+        int high = starts.length - 1;
+        // find the last range starting on or before this day
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return (high >= 0) && (epochDay <= ends[high]);
+    }
+
+    /**
+     * @return number of ranges after overlapping and adjacent ones were merged
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    public DateRange get(int index) {
+        return new DateRange(starts[index], ends[index]);
+    }
+
+    public static class Builder {
+
+        private int[] starts;
+        private int[] ends;
+        private int count;
+
+        public Builder() {
+            this(16);
+        }
+
+        public Builder(int expectedSize) {
+            starts = new int[Math.max(expectedSize, 1)];
+            ends = new int[Math.max(expectedSize, 1)];
+        }
+
+        public Builder add(DateRange range) {
+            return add(range.getStartDay(), range.getEndDay());
+        }
+
+        /**
+         * @param startDay first epoch day of the range
+         * @param endDay   last epoch day of the range
+         */
+        public Builder add(int startDay, int endDay) {
+            if (endDay < startDay) {
+                throw new IllegalArgumentException("endDay " + endDay + " is before startDay " + startDay);
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = startDay;
+            ends[count] = endDay;
+            count++;
+            return this;
+        }
+
+        public DateRanges build() {
+            // sort ranges by start day, packed in longs to sort both arrays at once
+            long[] packed = new long[count];
+            for (int i = 0; i < count; i++) {
+                packed[i] = ((long) starts[i] << 32) | (ends[i] & 0xFFFFFFFFL);
+            }
+            Arrays.sort(packed);
+
+            int[] mergedStarts = new int[count];
+            int[] mergedEnds = new int[count];
+            int size = 0;
+            for (long range : packed) {
+                int start = (int) (range >> 32);
+                int end = (int) range;
+                // adjacent when starting the day after, in longs so a range ending on Integer.MAX_VALUE does not overflow
+                if ((size > 0) && (start <= (long) mergedEnds[size - 1] + 1)) {
+                    mergedEnds[size - 1] = Math.max(mergedEnds[size - 1], end);
+                } else {
+                    mergedStarts[size] = start;
+                    mergedEnds[size] = end;
+                    size++;
+                }
+            }
+            return new DateRanges(Arrays.copyOf(mergedStarts, size), Arrays.copyOf(mergedEnds, size));
+        }
+    }
+}
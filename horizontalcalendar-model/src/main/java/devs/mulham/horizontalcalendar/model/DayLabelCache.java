@@ -0,0 +1,197 @@
+package devs.mulham.horizontalcalendar.model;
+
+import java.util.Arrays;
+
+/**
+ * Bounded LRU cache of labels keyed by epoch day, the labels are made by a {@link Formatter}.
+ * <p>
+ * Entries live in primitive arrays: an open addressing table of entry indexes and a doubly linked
+ * list of the entries, from most to least recently used. Lookups do not allocate, only a miss calls the formatter.
+ * Not thread safe.
+ *
+ * @since v1.4.0
+ */
+public final class DayLabelCache {
+
+    public interface Formatter {
+        CharSequence format(int epochDay);
+    }
+
+    private static final int EMPTY = -1;
+
+    private final Formatter formatter;
+    private final int capacity;
+
+    // open addressing table of entry indexes, keyed by epoch day
+    private final int[] table;
+    private final int mask;
+
+    // entries, linked from most (head) to least (tail) recently used
+    private final int[] keys;
+    private final CharSequence[] labels;
+    private final int[] prev;
+    private final int[] next;
+    private int head = EMPTY;
+    private int tail = EMPTY;
+    private int size;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public DayLabelCache(Formatter formatter, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be > 0");
+        }
+        this.formatter = formatter;
+        this.capacity = capacity;
+
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        table = new int[tableSize];
+        mask = tableSize - 1;
+        Arrays.fill(table, EMPTY);
+
+        keys = new int[capacity];
+        labels = new CharSequence[capacity];
+        prev = new int[capacity];
+        next = new int[capacity];
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the label of this epoch day, formatted only if it is not cached yet
+     */
+    public CharSequence get(int epochDay) {
+        int slot = findSlot(epochDay);
+        int entry = table[slot];
+        if (entry != EMPTY) {
+            hitCount++;
+            moveToHead(entry);
+            return labels[entry];
+        }
+
+        missCount++;
+        CharSequence label = formatter.format(epochDay);
+
+        if (size == capacity) {
+            entry = tail;
+            evict(entry);
+            // eviction may have shifted table slots
+            slot = findSlot(epochDay);
+        } else {
+            entry = size++;
+        }
+        keys[entry] = epochDay;
+        labels[entry] = label;
+        table[slot] = entry;
+        linkAtHead(entry);
+        return label;
+    }
+
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        Arrays.fill(labels, null);
+        head = tail = EMPTY;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public void resetStats() {
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
+    private int findSlot(int epochDay) {
+        int slot = mix(epochDay) & mask;
+        while ((table[slot] != EMPTY) && (keys[table[slot]] != epochDay)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void evict(int entry) {
+        unlink(entry);
+        removeFromTable(findSlot(keys[entry]));
+        labels[entry] = null;
+        evictionCount++;
+    }
+
+    /**
+     * Backward shift deletion, keeps probe chains intact without tombstones.
+     */
+    private void removeFromTable(int slot) {
+        table[slot] = EMPTY;
+        int hole = slot;
+        int current = (slot + 1) & mask;
+        while (table[current] != EMPTY) {
+            int home = mix(keys[table[current]]) & mask;
+            boolean movable = (hole <= current)
+                    ? ((home <= hole) || (home > current))
+                    : ((home <= hole) && (home > current));
+            if (movable) {
+                table[hole] = table[current];
+                table[current] = EMPTY;
+                hole = current;
+            }
+            current = (current + 1) & mask;
+        }
+    }
+
+    private void moveToHead(int entry) {
+        if (entry != head) {
+            unlink(entry);
+            linkAtHead(entry);
+        }
+    }
+
+    private void linkAtHead(int entry) {
+        prev[entry] = EMPTY;
+        next[entry] = head;
+        if (head != EMPTY) {
+            prev[head] = entry;
+        }
+        head = entry;
+        if (tail == EMPTY) {
+            tail = entry;
+        }
+    }
+
+    private void unlink(int entry) {
+        int p = prev[entry];
+        int n = next[entry];
+        if (p != EMPTY) {
+            next[p] = n;
+        } else {
+            head = n;
+        }
+        if (n != EMPTY) {
+            prev[n] = p;
+        } else {
+            tail = p;
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,92 @@
+package devs.mulham.horizontalcalendar.model;
+
+import java.util.Calendar;
+
+/**
+ * Test of a date, the Android free side of {@code HorizontalCalendarPredicate} and of its combinators.
+ *
+ * @since v1.4.0
+ */
+public interface DayPredicate {
+
+    boolean test(Calendar date);
+
+    /**
+     * Marker for predicates which are cheap to test (no I/O, no lookup in big collections),
+     * {@link Or} and {@link And} test them first to skip the expensive one when possible.
+     */
+    interface Cheap {
+    }
+
+    /**
+     * True if any of the two predicates is true, see {@link #of(DayPredicate, DayPredicate)}.
+     */
+    class Or implements DayPredicate {
+
+        private final DayPredicate testedFirst;
+        private final DayPredicate testedSecond;
+
+        public Or(DayPredicate firstPredicate, DayPredicate secondPredicate) {
+            // short-circuit on the cheap predicate
+            boolean swap = (secondPredicate instanceof Cheap) && !(firstPredicate instanceof Cheap);
+            this.testedFirst = swap ? secondPredicate : firstPredicate;
+            this.testedSecond = swap ? firstPredicate : secondPredicate;
+        }
+
+        @Override
+        public boolean test(Calendar date) {
+            return testedFirst.test(date) || testedSecond.test(date);
+        }
+
+        /**
+         * @return an Or which is {@link Cheap} itself when both predicates are, so it is tested first when combined again
+         */
+        public static Or of(DayPredicate firstPredicate, DayPredicate secondPredicate) {
+            return ((firstPredicate instanceof Cheap) && (secondPredicate instanceof Cheap))
+                    ? new CheapOr(firstPredicate, secondPredicate) : new Or(firstPredicate, secondPredicate);
+        }
+
+        private static final class CheapOr extends Or implements Cheap {
+
+            CheapOr(DayPredicate firstPredicate, DayPredicate secondPredicate) {
+                super(firstPredicate, secondPredicate);
+            }
+        }
+    }
+
+    /**
+     * True only if both predicates are true, see {@link #of(DayPredicate, DayPredicate)}.
+     */
+    class And implements DayPredicate {
+
+        private final DayPredicate testedFirst;
+        private final DayPredicate testedSecond;
+
+        public And(DayPredicate firstPredicate, DayPredicate secondPredicate) {
+            // short-circuit on the cheap predicate
+            boolean swap = (secondPredicate instanceof Cheap) && !(firstPredicate instanceof Cheap);
+            this.testedFirst = swap ? secondPredicate : firstPredicate;
+            this.testedSecond = swap ? firstPredicate : secondPredicate;
+        }
+
+        @Override
+        public boolean test(Calendar date) {
+            return testedFirst.test(date) && testedSecond.test(date);
+        }
+
+        /**
+         * @return an And which is {@link Cheap} itself when both predicates are, so it is tested first when combined again
+         */
+        public static And of(DayPredicate firstPredicate, DayPredicate secondPredicate) {
+            return ((firstPredicate instanceof Cheap) && (secondPredicate instanceof Cheap))
+                    ? new CheapAnd(firstPredicate, secondPredicate) : new And(firstPredicate, secondPredicate);
+        }
+
+        private static final class CheapAnd extends And implements Cheap {
+
+            CheapAnd(DayPredicate firstPredicate, DayPredicate secondPredicate) {
+                super(firstPredicate, secondPredicate);
+            }
+        }
+    }
+}
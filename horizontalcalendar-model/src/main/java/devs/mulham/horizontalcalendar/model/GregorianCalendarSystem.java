@@ -0,0 +1,63 @@
+package devs.mulham.horizontalcalendar.model;
+
+/**
+ * Proleptic Gregorian calendar, with years optionally counted from another era.
+ *
+ * @since v1.4.0
+ */
+final class GregorianCalendarSystem extends CalendarSystem {
+
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    // added to the Gregorian years
+    private final int yearOffset;
+
+    GregorianCalendarSystem(String name, int yearOffset) {
+        super(name);
+        this.yearOffset = yearOffset;
+    }
+
+    @Override
+    public int dateOf(int epochDay) {
+        // inverse of CalendarDay.epochDayOf(int, int, int), years starting in March
+        final int z = epochDay + 719468;
+        final int era = ((z >= 0) ? z : z - 146096) / 146097;
+        final int dayOfEra = z - (era * 146097);
+        final int yearOfEra = (dayOfEra - (dayOfEra / 1460) + (dayOfEra / 36524) - (dayOfEra / 146096)) / 365;
+        final int dayOfYear = dayOfEra - ((365 * yearOfEra) + (yearOfEra / 4) - (yearOfEra / 100));
+        final int marchMonth = ((5 * dayOfYear) + 2) / 153;
+        final int dayOfMonth = dayOfYear - (((153 * marchMonth) + 2) / 5) + 1;
+        final int month = (marchMonth < 10) ? marchMonth + 2 : marchMonth - 10;
+        final int year = yearOfEra + (era * 400) + ((month <= 1) ? 1 : 0);
+        return pack(year + yearOffset, month, dayOfMonth);
+    }
+
+    @Override
+    public int epochDayOf(int year, int month, int dayOfMonth) {
+        return CalendarDay.epochDayOf(year - yearOffset, month, dayOfMonth);
+    }
+
+    @Override
+    public int lengthOfMonth(int year, int month) {
+        return ((month == 1) && isLeapYear(year - yearOffset)) ? 29 : DAYS_IN_MONTH[month];
+    }
+
+    @Override
+    public int monthsInYear(int year) {
+        return 12;
+    }
+
+    @Override
+    public String getMonthName(int month) {
+        return null;
+    }
+
+    @Override
+    public String getShortMonthName(int month) {
+        return null;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return ((year % 4) == 0) && (((year % 100) != 0) || ((year % 400) == 0));
+    }
+}
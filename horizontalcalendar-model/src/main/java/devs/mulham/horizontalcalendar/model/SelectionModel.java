@@ -0,0 +1,314 @@
+package devs.mulham.horizontalcalendar.model;
+
+import java.util.BitSet;
+
+/**
+ * Selected days of a calendar, one bit per epoch day: a single day, any number of days, or a range of days.
+ * <p>
+ * Every change reports the days whose selection state flipped as contiguous runs to the {@link ChangeListener},
+ * so the cells to rebind are exactly those, in as few notifications as possible.
+ * Disabled days are never selected, and a range is refused if one of its days is disabled.
+ *
+ * @since v1.4.0
+ */
+public final class SelectionModel {
+
+    public static final int MODE_SINGLE = 0;
+    public static final int MODE_MULTIPLE = 1;
+    public static final int MODE_RANGE = 2;
+
+    // days are kept at least this far from the origin of the bits, so selecting earlier days rarely rebases
+    private static final int ORIGIN_MARGIN_DAYS = 366;
+    private static final int NO_DAY = Integer.MIN_VALUE;
+
+    public interface DisabledDays {
+        /**
+         * Returned when no day is disabled, -1 is an epoch day (1969-12-31).
+         */
+        int NONE = Integer.MIN_VALUE;
+
+        /**
+         * @return first disabled epoch day between fromDay and toDay (included), or {@link #NONE} if none
+         */
+        int firstDisabledDay(int fromDay, int toDay);
+    }
+
+    public interface ChangeListener {
+        /**
+         * The selection state of the days between fromDay and toDay (included) flipped.
+         */
+        void onDaysChanged(int fromDay, int toDay);
+    }
+
+    private final int mode;
+    private int minRangeDays = 1;
+    private int maxRangeDays = Integer.MAX_VALUE;
+    private DisabledDays disabledDays;
+    private ChangeListener changeListener;
+
+    // bit i is the day originDay + i
+    private BitSet selected = new BitSet();
+    private BitSet flipped = new BitSet();
+    private int originDay = NO_DAY;
+
+    // first and last days of the range, rangeEnd is NO_DAY while the end is not picked yet
+    private int rangeStart = NO_DAY;
+    private int rangeEnd = NO_DAY;
+
+    /**
+     * @param mode one of {@link #MODE_SINGLE}, {@link #MODE_MULTIPLE} or {@link #MODE_RANGE}
+     */
+    public SelectionModel(int mode) {
+        if ((mode < MODE_SINGLE) || (mode > MODE_RANGE)) {
+            throw new IllegalArgumentException("unknown selection mode " + mode);
+        }
+        this.mode = mode;
+    }
+
+    public int getMode() {
+        return mode;
+    }
+
+    /**
+     * @param minDays minimum number of days of a range, its first and last days included
+     * @param maxDays maximum number of days of a range
+     */
+    public void setRangeLength(int minDays, int maxDays) {
+        if ((minDays < 1) || (maxDays < minDays)) {
+            throw new IllegalArgumentException("invalid range length " + minDays + ".." + maxDays);
+        }
+        this.minRangeDays = minDays;
+        this.maxRangeDays = maxDays;
+    }
+
+    public void setDisabledDays(DisabledDays disabledDays) {
+        this.disabledDays = disabledDays;
+    }
+
+    public void setChangeListener(ChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Select a day as the user would by clicking it: the only selected day in single mode,
+     * toggled in multiple mode. In range mode it starts a new range, or ends the range started
+     * if it comes after its first day and the range is valid.
+     *
+     * @return false if the day is disabled or would end an invalid range, nothing changed in this case
+     */
+    public boolean select(int epochDay) {
+        if (isDisabled(epochDay, epochDay)) {
+            return false;
+        }
+
+        switch (mode) {
+            case MODE_MULTIPLE:
+                ensureCovers(epochDay);
+                beginChange();
+                selected.flip(epochDay - originDay);
+                endChange();
+                return true;
+            case MODE_RANGE:
+                if ((rangeStart != NO_DAY) && (rangeEnd == NO_DAY) && (epochDay >= rangeStart)) {
+                    return selectRange(rangeStart, epochDay);
+                }
+                ensureCovers(epochDay);
+                beginChange();
+                selected.clear();
+                selected.set(epochDay - originDay);
+                rangeStart = epochDay;
+                rangeEnd = NO_DAY;
+                endChange();
+                return true;
+            default:
+                ensureCovers(epochDay);
+                beginChange();
+                selected.clear();
+                selected.set(epochDay - originDay);
+                endChange();
+                return true;
+        }
+    }
+
+    /**
+     * Select the days between fromDay and toDay (included) as the range, in range mode only.
+     *
+     * @return false if the range is shorter or longer than allowed or contains a disabled day,
+     * nothing changed in this case
+     */
+    public boolean selectRange(int fromDay, int toDay) {
+        if (mode != MODE_RANGE) {
+            throw new IllegalStateException("not in range mode");
+        }
+        final long days = (long) toDay - fromDay + 1;
+        if ((days < minRangeDays) || (days > maxRangeDays) || isDisabled(fromDay, toDay)) {
+            return false;
+        }
+
+        ensureCovers(fromDay);
+        beginChange();
+        selected.clear();
+        selected.set(fromDay - originDay, toDay - originDay + 1);
+        rangeStart = fromDay;
+        rangeEnd = toDay;
+        endChange();
+        return true;
+    }
+
+    /**
+     * Unselect a single day, a range is cleared entirely.
+     */
+    public void deselect(int epochDay) {
+        if (!isSelected(epochDay)) {
+            return;
+        }
+        if (mode == MODE_RANGE) {
+            clear();
+            return;
+        }
+        beginChange();
+        selected.clear(epochDay - originDay);
+        endChange();
+    }
+
+    public void clear() {
+        beginChange();
+        selected.clear();
+        rangeStart = NO_DAY;
+        rangeEnd = NO_DAY;
+        endChange();
+    }
+
+    public boolean isSelected(int epochDay) {
+        return (originDay != NO_DAY) && (epochDay >= originDay) && selected.get(epochDay - originDay);
+    }
+
+    public boolean isEmpty() {
+        return selected.isEmpty();
+    }
+
+    public int getSelectedCount() {
+        return selected.cardinality();
+    }
+
+    /**
+     * @return first selected day on or after this one, or {@link Integer#MIN_VALUE} if none
+     */
+    public int nextSelectedDay(int fromDay) {
+        if (originDay == NO_DAY) {
+            return NO_DAY;
+        }
+        final int index = selected.nextSetBit(Math.max(fromDay - originDay, 0));
+        return (index == -1) ? NO_DAY : originDay + index;
+    }
+
+    /**
+     * @return true once both ends of the range are picked
+     */
+    public boolean isRangeComplete() {
+        return rangeEnd != NO_DAY;
+    }
+
+    /**
+     * @return first day of the range, or {@link Integer#MIN_VALUE} if none
+     */
+    public int getRangeStart() {
+        return rangeStart;
+    }
+
+    /**
+     * @return last day of the range, or {@link Integer#MIN_VALUE} while it is not picked
+     */
+    public int getRangeEnd() {
+        return rangeEnd;
+    }
+
+    /**
+     * @return the selection as {range start, range end, then the first and last days of each run of selected days},
+     * to be given back to {@link #restoreState(int[])}
+     */
+    public int[] saveState() {
+        int runs = 0;
+        for (int from = selected.nextSetBit(0); from >= 0; from = selected.nextSetBit(selected.nextClearBit(from))) {
+            runs++;
+        }
+
+        final int[] state = new int[2 + (runs * 2)];
+        state[0] = rangeStart;
+        state[1] = rangeEnd;
+        int i = 2;
+        for (int from = selected.nextSetBit(0); from >= 0; ) {
+            final int to = selected.nextClearBit(from);
+            state[i++] = originDay + from;
+            state[i++] = originDay + to - 1;
+            from = selected.nextSetBit(to);
+        }
+        return state;
+    }
+
+    /**
+     * Replace the selection by one saved with {@link #saveState()}, the flipped days are reported as for any change.
+     * The days are not validated again.
+     */
+    public void restoreState(int[] state) {
+        if ((state == null) || (state.length < 2) || ((state.length % 2) != 0)) {
+            throw new IllegalArgumentException("not a saved selection");
+        }
+
+        if (state.length > 2) {
+            ensureCovers(state[2]);
+        }
+        beginChange();
+        selected.clear();
+        for (int i = 2; i < state.length; i += 2) {
+            selected.set(state[i] - originDay, state[i + 1] - originDay + 1);
+        }
+        rangeStart = state[0];
+        rangeEnd = state[1];
+        endChange();
+    }
+
+    private boolean isDisabled(int fromDay, int toDay) {
+        return (disabledDays != null) && (disabledDays.firstDisabledDay(fromDay, toDay) != DisabledDays.NONE);
+    }
+
+    /**
+     * Move the origin of the bits so this day has a bit, before a change is recorded.
+     */
+    private void ensureCovers(int epochDay) {
+        if (originDay == NO_DAY) {
+            originDay = epochDay - ORIGIN_MARGIN_DAYS;
+            return;
+        }
+        if (epochDay >= originDay) {
+            return;
+        }
+
+        final int newOriginDay = epochDay - ORIGIN_MARGIN_DAYS;
+        final int shift = originDay - newOriginDay;
+        final BitSet moved = new BitSet(selected.length() + shift);
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            moved.set(i + shift);
+        }
+        selected = moved;
+        flipped = new BitSet(moved.size());
+        originDay = newOriginDay;
+    }
+
+    private void beginChange() {
+        flipped.clear();
+        flipped.or(selected);
+    }
+
+    private void endChange() {
+        flipped.xor(selected);
+        if (changeListener == null) {
+            return;
+        }
+        for (int from = flipped.nextSetBit(0); from >= 0; ) {
+            final int to = flipped.nextClearBit(from);
+            changeListener.onDaysChanged(originDay + from, originDay + to - 1);
+            from = flipped.nextSetBit(to);
+        }
+    }
+}
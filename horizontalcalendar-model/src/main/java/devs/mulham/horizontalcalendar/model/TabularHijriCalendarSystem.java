@@ -0,0 +1,91 @@
+package devs.mulham.horizontalcalendar.model;
+
+/**
+ * Arithmetical Islamic calendar: 30 year cycles in which the years 2, 5, 7, 10, 13, 16, 18, 21, 24, 26 and 29
+ * have 355 days instead of 354. It may differ by a day or two from a calendar based on the moon sighting,
+ * hence the day adjustment.
+ *
+ * @since v1.4.0
+ */
+final class TabularHijriCalendarSystem extends CalendarSystem {
+
+    // 1 Muharram 1 AH, July 16th 622 of the Julian calendar
+    private static final int EPOCH_DAY = -492148;
+
+    private static final String[] MONTH_NAMES = {
+            "Muharram", "Safar", "Rabi' al-awwal", "Rabi' al-thani", "Jumada al-awwal", "Jumada al-thani",
+            "Rajab", "Sha'ban", "Ramadan", "Shawwal", "Dhu al-Qi'dah", "Dhu al-Hijjah"
+    };
+    private static final String[] SHORT_MONTH_NAMES = {
+            "Muh.", "Saf.", "Rab. I", "Rab. II", "Jum. I", "Jum. II", "Raj.", "Sha.", "Ram.", "Shaw.", "Dhu'l-Q.", "Dhu'l-H."
+    };
+
+    // the tabular dates are moved this many days later
+    private final int dayAdjustment;
+    private final String[] monthNames;
+    private final String[] shortMonthNames;
+
+    TabularHijriCalendarSystem(int dayAdjustment, String[] monthNames, String[] shortMonthNames) {
+        super("hijri");
+        this.dayAdjustment = dayAdjustment;
+        this.monthNames = (monthNames != null) ? monthNames.clone() : MONTH_NAMES;
+        this.shortMonthNames = (shortMonthNames != null) ? shortMonthNames.clone() : SHORT_MONTH_NAMES;
+    }
+
+    @Override
+    public int dateOf(int epochDay) {
+        final long day = (long) epochDay - dayAdjustment;
+        final int year = (int) floorDiv((30 * (day - EPOCH_DAY)) + 10646, 10631);
+        final long priorDays = day - tabularDay(year, 0, 1);
+        final int month = (int) floorDiv((11 * priorDays) + 330, 325) - 1;
+        final int dayOfMonth = (int) (day - tabularDay(year, month, 1)) + 1;
+        return pack(year, month, dayOfMonth);
+    }
+
+    @Override
+    public int epochDayOf(int year, int month, int dayOfMonth) {
+        return (int) (tabularDay(year, month, dayOfMonth) + dayAdjustment);
+    }
+
+    @Override
+    public int lengthOfMonth(int year, int month) {
+        if ((month == 11) && isLeapYear(year)) {
+            return 30;
+        }
+        // Muharram has 30 days, then months alternate
+        return ((month % 2) == 0) ? 30 : 29;
+    }
+
+    @Override
+    public int monthsInYear(int year) {
+        return 12;
+    }
+
+    @Override
+    public String getMonthName(int month) {
+        return monthNames[month];
+    }
+
+    @Override
+    public String getShortMonthName(int month) {
+        return shortMonthNames[month];
+    }
+
+    private static boolean isLeapYear(int year) {
+        final long cycle = 14 + (11L * year);
+        return (cycle - (floorDiv(cycle, 30) * 30)) < 11;
+    }
+
+    /**
+     * @return the epoch day of this tabular date, without the adjustment
+     */
+    private static long tabularDay(int year, int month, int dayOfMonth) {
+        final int m = month + 1;
+        return dayOfMonth + (29L * (m - 1)) + floorDiv((6L * m) - 1, 11) + ((year - 1) * 354L)
+                + floorDiv(3 + (11L * year), 30) + EPOCH_DAY - 1;
+    }
+
+    private static long floorDiv(long x, long y) {
+        return CalendarDay.floorDiv(x, y);
+    }
+}
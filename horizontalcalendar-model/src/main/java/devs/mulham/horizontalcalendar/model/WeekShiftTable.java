@@ -0,0 +1,66 @@
+package devs.mulham.horizontalcalendar.model;
+
+import java.util.Calendar;
+
+/**
+ * Number of cells left until the end of the week, for each day of the week.
+ * <p>
+ * The day of week is computed from the epoch day, so no {@link Calendar}
+ * and no locale dependent day name is involved.
+ *
+ * @since v1.4.0
+ */
+public final class WeekShiftTable {
+
+    public static final int DAYS_IN_WEEK = 7;
+
+    // 1970-01-01 (epoch day 0) was a Thursday
+    private static final int EPOCH_DAY_OF_WEEK = Calendar.THURSDAY;
+
+    private final int firstDayOfWeek;
+    private final int[] shifts = new int[DAYS_IN_WEEK];
+
+    /**
+     * @param firstDayOfWeek one of {@link Calendar#SUNDAY} to {@link Calendar#SATURDAY}
+     */
+    public WeekShiftTable(int firstDayOfWeek) {
+        if ((firstDayOfWeek < Calendar.SUNDAY) || (firstDayOfWeek > Calendar.SATURDAY)) {
+            throw new IllegalArgumentException("firstDayOfWeek must be between Calendar.SUNDAY and Calendar.SATURDAY");
+        }
+        this.firstDayOfWeek = firstDayOfWeek;
+        for (int dayOfWeek = Calendar.SUNDAY; dayOfWeek <= Calendar.SATURDAY; dayOfWeek++) {
+            int indexInWeek = (dayOfWeek - firstDayOfWeek + DAYS_IN_WEEK) % DAYS_IN_WEEK;
+            shifts[dayOfWeek - 1] = (DAYS_IN_WEEK - 1) - indexInWeek;
+        }
+    }
+
+    public int getFirstDayOfWeek() {
+        return firstDayOfWeek;
+    }
+
+    /**
+     * @return number of cells between this day and the last day of its week,
+     * 0 for the last day of the week and 6 for the first one
+     */
+    public int shiftOf(int epochDay) {
+        return shifts[dayOfWeek(epochDay) - 1];
+    }
+
+    /**
+     * @return index of this day in its week, 0 for the first day of the week
+     */
+    public int indexInWeek(int epochDay) {
+        return (DAYS_IN_WEEK - 1) - shiftOf(epochDay);
+    }
+
+    /**
+     * @return day of week of this epoch day, as one of {@link Calendar#SUNDAY} to {@link Calendar#SATURDAY}
+     */
+    public static int dayOfWeek(int epochDay) {
+        int index = (epochDay + (EPOCH_DAY_OF_WEEK - 1)) % DAYS_IN_WEEK;
+        if (index < 0) {
+            index += DAYS_IN_WEEK;
+        }
+        return index + 1;
+    }
+}
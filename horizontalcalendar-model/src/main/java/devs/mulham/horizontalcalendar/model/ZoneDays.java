@@ -0,0 +1,97 @@
+package devs.mulham.horizontalcalendar.model;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Epoch days of one fixed time zone, with the first instant of the recently used days cached,
+ * so moving a {@link Calendar} to a day or finding the day of an instant does not query the zone rules again.
+ * <p>
+ * The day starts are computed once, DST transitions included, a day may last 23 or 25 hours.
+ * Cached entries are immutable, the same instance can be used from several threads.
+ *
+ * @since v1.4.0
+ */
+public final class ZoneDays {
+
+    // power of two, a few weeks around the visible dates
+    private static final int CACHE_SIZE = 64;
+
+    private final TimeZone zone;
+    private final DayStart[] cache = new DayStart[CACHE_SIZE];
+
+    public ZoneDays(TimeZone zone) {
+        // a private copy, the zone rules can not change under the cache
+        this.zone = (TimeZone) zone.clone();
+    }
+
+    /**
+     * @return epoch days of the default time zone, as it is now
+     */
+    public static ZoneDays systemDefault() {
+        return new ZoneDays(TimeZone.getDefault());
+    }
+
+    /**
+     * @return a copy of the time zone
+     */
+    public TimeZone getTimeZone() {
+        return (TimeZone) zone.clone();
+    }
+
+    /**
+     * @return the first instant of this epoch day, usually midnight unless a DST transition skipped it
+     */
+    public long startOf(int epochDay) {
+        final int slot = epochDay & (CACHE_SIZE - 1);
+        final DayStart cached = cache[slot];
+        if ((cached != null) && (cached.epochDay == epochDay)) {
+            return cached.millis;
+        }
+        final long millis = CalendarDay.startOfDay(zone, epochDay);
+        cache[slot] = new DayStart(epochDay, millis);
+        return millis;
+    }
+
+    /**
+     * @return the epoch day this instant belongs to in this zone
+     */
+    public int epochDayAt(long millis) {
+        // the raw offset is at most a DST saving away, the day starts settle the rest
+        int epochDay = (int) CalendarDay.floorDiv(millis + zone.getRawOffset(), CalendarDay.MILLIS_PER_DAY);
+        while (millis < startOf(epochDay)) {
+            epochDay--;
+        }
+        while (millis >= startOf(epochDay + 1)) {
+            epochDay++;
+        }
+        return epochDay;
+    }
+
+    /**
+     * @return a new {@link Calendar} of this zone set to the start of the given epoch day
+     */
+    public Calendar toCalendar(int epochDay) {
+        final Calendar calendar = Calendar.getInstance(getTimeZone());
+        calendar.setTimeInMillis(startOf(epochDay));
+        return calendar;
+    }
+
+    /**
+     * Move a calendar of this zone to the start of the given epoch day.
+     */
+    public void setEpochDay(Calendar calendar, int epochDay) {
+        calendar.setTimeInMillis(startOf(epochDay));
+    }
+
+    private static final class DayStart {
+
+        final int epochDay;
+        final long millis;
+
+        DayStart(int epochDay, long millis) {
+            this.epochDay = epochDay;
+            this.millis = millis;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package devs.mulham.horizontalcalendar.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+public class CalendarDayTest {
+
+    private static final String[] ZONES = {
+            "UTC", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe", "America/Sao_Paulo", "Pacific/Apia"
+    };
+
+    @Test
+    public void epochDayOfKnownDates() {
+        Assert.assertEquals(0, CalendarDay.epochDayOf(new GregorianCalendar(1970, Calendar.JANUARY, 1)));
+        Assert.assertEquals(-1, CalendarDay.epochDayOf(new GregorianCalendar(1969, Calendar.DECEMBER, 31)));
+        Assert.assertEquals(17532, CalendarDay.epochDayOf(new GregorianCalendar(2018, Calendar.JANUARY, 1)));
+    }
+
+    @Test
+    public void timeOfDayIsIgnored() {
+        Calendar calendar = new GregorianCalendar(2018, Calendar.JANUARY, 1, 23, 59, 59);
+        Assert.assertEquals(17532, CalendarDay.epochDayOf(calendar));
+    }
+
+    @Test
+    public void setEpochDayRoundTripsInEveryZone() {
+        for (String zone : ZONES) {
+            Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(zone));
+            // covers several DST transitions, some of them at midnight
+            for (int epochDay = 16000; epochDay < 18000; epochDay++) {
+                CalendarDay.setEpochDay(calendar, epochDay);
+                Assert.assertEquals(zone + " " + epochDay, epochDay, CalendarDay.epochDayOf(calendar));
+            }
+        }
+    }
+
+    @Test
+    public void civilDatesMatchCalendar() {
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        for (int epochDay = -800000; epochDay < 800000; epochDay += 13) {
+            calendar.setTimeInMillis(epochDay * CalendarDay.MILLIS_PER_DAY);
+            if ((calendar.get(Calendar.YEAR) <= 1582) || (calendar.get(Calendar.ERA) != GregorianCalendar.AD)) {
+                continue;
+            }
+            Assert.assertEquals(epochDay, CalendarDay.epochDayOf(calendar.get(Calendar.YEAR),
+                    calendar.get(Calendar.MONTH), calendar.get(Calendar.DAY_OF_MONTH)));
+        }
+        Assert.assertEquals(11016, CalendarDay.epochDayOf(2000, Calendar.FEBRUARY, 29));
+    }
+
+    @Test
+    public void daysBetweenAcrossDstTransition() {
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        Calendar start = new GregorianCalendar(zone);
+        start.set(2018, Calendar.MARCH, 10, 0, 0, 0);
+        Calendar end = new GregorianCalendar(zone);
+        end.set(2018, Calendar.MARCH, 12, 0, 0, 0);
+
+        // only 47 hours apart
+        Assert.assertEquals(2, CalendarDay.daysBetween(start, end));
+    }
+
+    @Test
+    public void daysCompareByEpochDay() {
+        CalendarDay first = CalendarDay.of(10);
+        CalendarDay second = CalendarDay.of(11);
+        Assert.assertTrue(first.isBefore(second));
+        Assert.assertTrue(second.isAfter(first));
+        Assert.assertEquals(CalendarDay.of(10), first);
+        Assert.assertEquals(CalendarDay.of(10).hashCode(), first.hashCode());
+    }
+}
@@ -0,0 +1,119 @@
+package devs.mulham.horizontalcalendar.model;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Calendar;
+
+public class CalendarModelTest {
+
+    // 2018-01-01 (a Monday) to 2018-01-31
+    private static final int JAN_1 = 17532;
+    private static final int JAN_31 = JAN_1 + 30;
+    // 2018-01-10, a Wednesday
+    private static final int TODAY = JAN_1 + 9;
+
+    private CalendarModel model;
+
+    @Before
+    public void setUp() {
+        model = new CalendarModel(JAN_1, JAN_31, 7, Calendar.SUNDAY, TODAY);
+    }
+
+    @Test
+    public void rangeIsPaddedWithShiftCells() {
+        Assert.assertEquals(3, model.getShiftCells());
+        Assert.assertEquals(31 + 6, model.getItemCount());
+        Assert.assertEquals(3, model.positionOf(JAN_1));
+        Assert.assertEquals(33, model.positionOf(JAN_31));
+        Assert.assertEquals(-1, model.positionOf(JAN_1 - 1));
+        Assert.assertEquals(-1, model.positionOf(JAN_31 + 1));
+    }
+
+    @Test
+    public void todayIsSelectedAtFirst() {
+        Assert.assertEquals(12, model.getTodayPosition());
+        Assert.assertEquals(12, model.getSelectedPosition());
+        Assert.assertEquals(TODAY, model.getSelectedDay());
+    }
+
+    @Test
+    public void weekBoundsFollowFirstDayOfWeek() {
+        // Wednesday, Sunday weeks: Sunday 7th to Saturday 13th
+        Assert.assertEquals(3, model.shiftCellsForWeekDay(12));
+        Assert.assertEquals(9, model.firstPositionOfWeek(12));
+        Assert.assertEquals(15, model.lastPositionOfWeek(12));
+
+        // Monday weeks: Monday 8th to Sunday 14th
+        CalendarModel mondayModel = new CalendarModel(JAN_1, JAN_31, 7, Calendar.MONDAY, TODAY);
+        Assert.assertEquals(4, mondayModel.shiftCellsForWeekDay(12));
+        Assert.assertEquals(10, mondayModel.firstPositionOfWeek(12));
+        Assert.assertEquals(16, mondayModel.lastPositionOfWeek(12));
+    }
+
+    @Test
+    public void weekPageTargetDependsOnDirection() {
+        Assert.assertEquals(15, model.weekPageTarget(12, 5));
+        Assert.assertEquals(9, model.weekPageTarget(12, 20));
+        Assert.assertEquals(12, model.weekPageTarget(12, 12));
+    }
+
+    @Test
+    public void relativeCenterPositionAddsShiftCells() {
+        Assert.assertEquals(13, model.relativeCenterPosition(10, 5));
+        Assert.assertEquals(7, model.relativeCenterPosition(10, 20));
+        Assert.assertEquals(10, model.relativeCenterPosition(10, 10));
+    }
+
+    @Test
+    public void positionNoShiftAddsCellsUntilEndOfWeek() {
+        Assert.assertEquals(9 + 3, model.positionOfDayNoShift(TODAY));
+        Assert.assertEquals(-1, model.positionOfDayNoShift(JAN_31 + 1));
+    }
+
+    @Test
+    public void setRangeKeepsSelectedDate() {
+        model.setRange(JAN_1 - 10, JAN_31);
+        Assert.assertEquals(TODAY, model.getSelectedDay());
+        Assert.assertEquals(22, model.getSelectedPosition());
+        Assert.assertEquals(22, model.getTodayPosition());
+    }
+
+    @Test
+    public void setRangeClampsRemovedSelectedDate() {
+        model.setRange(TODAY + 4, JAN_31 + 30);
+        Assert.assertEquals(TODAY + 4, model.getSelectedDay());
+        Assert.assertEquals(3, model.getSelectedPosition());
+        Assert.assertEquals(-1, model.getTodayPosition());
+    }
+
+    @Test
+    public void slideRangeMovesSelection() {
+        model.slideRange(10, true);
+        Assert.assertEquals(JAN_1 + 10, model.getDateEngine().getStartDay());
+        Assert.assertEquals(2, model.getSelectedPosition());
+        Assert.assertEquals(TODAY, model.getSelectedDay());
+
+        // the selected date leaves the range
+        model.slideRange(5, true);
+        Assert.assertEquals(model.getItemCount() / 2, model.getSelectedPosition());
+
+        model.setSelectedPosition(4);
+        model.slideRange(-1, false);
+        Assert.assertEquals(model.getItemCount() / 2, model.getSelectedPosition());
+
+        // nothing selected stays so
+        model.setSelectedPosition(-1);
+        model.slideRange(3, true);
+        Assert.assertEquals(-1, model.getSelectedPosition());
+        model.slideRange(-3, true);
+        Assert.assertEquals(-1, model.getSelectedPosition());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void selectedDayWithoutSelectionThrows() {
+        model.setSelectedPosition(-1);
+        model.getSelectedDay();
+    }
+}
@@ -0,0 +1,76 @@
+package devs.mulham.horizontalcalendar.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+public class CalendarSystemTest {
+
+    private static final CalendarSystem[] SYSTEMS = {
+            CalendarSystem.GREGORIAN, CalendarSystem.BUDDHIST, CalendarSystem.HIJRI,
+            CalendarSystem.tabularHijri(-1, null, null)
+    };
+
+    @Test
+    public void gregorianDatesMatchCalendar() {
+        Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        for (int epochDay = -100000; epochDay < 100000; epochDay += 7) {
+            calendar.setTimeInMillis(epochDay * CalendarDay.MILLIS_PER_DAY);
+            int date = CalendarSystem.GREGORIAN.dateOf(epochDay);
+            Assert.assertEquals(calendar.get(Calendar.YEAR), CalendarSystem.yearOf(date));
+            Assert.assertEquals(calendar.get(Calendar.MONTH), CalendarSystem.monthOf(date));
+            Assert.assertEquals(calendar.get(Calendar.DAY_OF_MONTH), CalendarSystem.dayOfMonthOf(date));
+        }
+    }
+
+    @Test
+    public void buddhistYearsAreAhead() {
+        int date = CalendarSystem.BUDDHIST.dateOf(CalendarDay.epochDayOf(2024, Calendar.FEBRUARY, 29));
+        Assert.assertEquals(CalendarSystem.pack(2567, Calendar.FEBRUARY, 29), date);
+        Assert.assertEquals(29, CalendarSystem.BUDDHIST.lengthOfMonth(2567, Calendar.FEBRUARY));
+    }
+
+    @Test
+    public void hijriKnownDates() {
+        // July 19th 622 of the Gregorian calendar
+        Assert.assertEquals(CalendarSystem.pack(1, 0, 1), CalendarSystem.HIJRI.dateOf(-492148));
+        // 1 Ramadan 1444 in the tabular calendar
+        Assert.assertEquals(CalendarSystem.pack(1444, 8, 1),
+                CalendarSystem.HIJRI.dateOf(CalendarDay.epochDayOf(2023, Calendar.MARCH, 23)));
+        Assert.assertEquals(355, yearLength(CalendarSystem.HIJRI, 1445));
+        Assert.assertEquals(354, yearLength(CalendarSystem.HIJRI, 1446));
+    }
+
+    @Test
+    public void datesRoundTrip() {
+        for (CalendarSystem system : SYSTEMS) {
+            for (int epochDay = -30000; epochDay < 30000; epochDay++) {
+                int date = system.dateOf(epochDay);
+                Assert.assertEquals(system + " " + epochDay, epochDay, system.epochDayOf(CalendarSystem.yearOf(date),
+                        CalendarSystem.monthOf(date), CalendarSystem.dayOfMonthOf(date)));
+            }
+        }
+    }
+
+    @Test
+    public void windowMatchesSingleConversions() {
+        for (CalendarSystem system : SYSTEMS) {
+            CalendarSystemDates dates = new CalendarSystemDates(system, 64);
+            // forward then backward, across several windows
+            for (int epochDay = 19000; epochDay < 19400; epochDay++) {
+                Assert.assertEquals(system + " " + epochDay, system.dateOf(epochDay), dates.dateOf(epochDay));
+            }
+            for (int epochDay = 19400; epochDay > 18000; epochDay -= 3) {
+                Assert.assertEquals(system + " " + epochDay, system.dateOf(epochDay), dates.dateOf(epochDay));
+                Assert.assertEquals(system.monthStartOf(epochDay), dates.monthStartOf(epochDay));
+            }
+        }
+    }
+
+    private static int yearLength(CalendarSystem system, int year) {
+        return system.epochDayOf(year + 1, 0, 1) - system.epochDayOf(year, 0, 1);
+    }
+}
@@ -0,0 +1,78 @@
+package devs.mulham.horizontalcalendar.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class DateRangesTest {
+
+    @Test
+    public void overlappingAndAdjacentRangesAreMerged() {
+        DateRanges ranges = new DateRanges.Builder()
+                .add(20, 25)
+                .add(1, 5)
+                .add(6, 8)
+                .add(3, 4)
+                .add(24, 30)
+                .build();
+
+        Assert.assertEquals(2, ranges.size());
+        Assert.assertEquals(new DateRange(1, 8), ranges.get(0));
+        Assert.assertEquals(new DateRange(20, 30), ranges.get(1));
+    }
+
+    @Test
+    public void containsMatchesRanges() {
+        DateRanges ranges = DateRanges.of(Arrays.asList(new DateRange(10, 12), new DateRange(20, 20)));
+
+        Assert.assertFalse(ranges.contains(9));
+        Assert.assertTrue(ranges.contains(10));
+        Assert.assertTrue(ranges.contains(12));
+        Assert.assertFalse(ranges.contains(13));
+        Assert.assertTrue(ranges.contains(20));
+        Assert.assertFalse(ranges.contains(21));
+    }
+
+    @Test
+    public void daysOneApartAreNotMerged() {
+        DateRanges ranges = new DateRanges.Builder()
+                .add(1, 5)
+                .add(7, 8)
+                .add(-3, -1)
+                .build();
+
+        Assert.assertEquals(3, ranges.size());
+        Assert.assertFalse(ranges.contains(0));
+        Assert.assertFalse(ranges.contains(6));
+    }
+
+    @Test
+    public void rangesAtTheEndsOfIntAreMerged() {
+        DateRanges ranges = new DateRanges.Builder()
+                .add(Integer.MAX_VALUE - 5, Integer.MAX_VALUE)
+                .add(Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1)
+                .add(Integer.MIN_VALUE, Integer.MIN_VALUE + 1)
+                .add(Integer.MIN_VALUE, Integer.MIN_VALUE + 3)
+                .build();
+
+        Assert.assertEquals(2, ranges.size());
+        Assert.assertEquals(new DateRange(Integer.MIN_VALUE, Integer.MIN_VALUE + 3), ranges.get(0));
+        Assert.assertEquals(new DateRange(Integer.MAX_VALUE - 5, Integer.MAX_VALUE), ranges.get(1));
+        Assert.assertTrue(ranges.contains(Integer.MAX_VALUE));
+        Assert.assertTrue(ranges.contains(Integer.MIN_VALUE + 2));
+        Assert.assertFalse(ranges.contains(Integer.MAX_VALUE - 6));
+    }
+
+    @Test
+    public void emptyRangesContainNothing() {
+        DateRanges ranges = new DateRanges.Builder().build();
+        Assert.assertEquals(0, ranges.size());
+        Assert.assertFalse(ranges.contains(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rangeEndingBeforeStartIsRejected() {
+        new DateRange(5, 4);
+    }
+}
@@ -0,0 +1,86 @@
+package devs.mulham.horizontalcalendar.model;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DayLabelCacheTest {
+
+    private int formatted;
+    private DayLabelCache cache;
+
+    @Before
+    public void setUp() {
+        formatted = 0;
+        cache = new DayLabelCache(new DayLabelCache.Formatter() {
+            @Override
+            public CharSequence format(int epochDay) {
+                formatted++;
+                return "day " + epochDay;
+            }
+        }, 4);
+    }
+
+    @Test
+    public void hitsDoNotFormat() {
+        Assert.assertEquals("day 10", cache.get(10).toString());
+        Assert.assertEquals("day 11", cache.get(11).toString());
+        Assert.assertSame(cache.get(10), cache.get(10));
+
+        Assert.assertEquals(2, formatted);
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        for (int day = 0; day < 4; day++) {
+            cache.get(day);
+        }
+        // 0 becomes the most recently used, 1 is evicted next
+        cache.get(0);
+        cache.get(4);
+
+        Assert.assertEquals(1, cache.getEvictionCount());
+        Assert.assertEquals(4, cache.size());
+        formatted = 0;
+        cache.get(0);
+        cache.get(2);
+        cache.get(3);
+        cache.get(4);
+        Assert.assertEquals(0, formatted);
+        cache.get(1);
+        Assert.assertEquals(1, formatted);
+    }
+
+    @Test
+    public void collidingDaysSurviveEvictions() {
+        // days far apart and negative ones, probe chains must stay intact when entries are removed
+        final DayLabelCache wide = new DayLabelCache(new DayLabelCache.Formatter() {
+            @Override
+            public CharSequence format(int epochDay) {
+                return String.valueOf(epochDay);
+            }
+        }, 16);
+        for (int day = -5000; day < 5000; day += 37) {
+            Assert.assertEquals(String.valueOf(day), wide.get(day).toString());
+            Assert.assertEquals(String.valueOf(day - 37), wide.get(day - 37).toString());
+        }
+        Assert.assertEquals(16, wide.size());
+    }
+
+    @Test
+    public void clearDropsEntries() {
+        cache.get(1);
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+        cache.get(1);
+        Assert.assertEquals(2, formatted);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacityMustBePositive() {
+        new DayLabelCache(null, 0);
+    }
+}
@@ -0,0 +1,110 @@
+package devs.mulham.horizontalcalendar.model;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+public class DayPredicateTest {
+
+    private final List<String> tested = new ArrayList<>();
+    private Calendar date;
+
+    @Before
+    public void setUp() {
+        date = Calendar.getInstance();
+    }
+
+    @Test
+    public void orTestsCheapPredicateFirst() {
+        Assert.assertTrue(new DayPredicate.Or(expensive("expensive", false), cheap("cheap", true)).test(date));
+        // the expensive predicate is skipped
+        Assert.assertEquals(list("cheap"), tested);
+
+        tested.clear();
+        Assert.assertFalse(new DayPredicate.Or(expensive("expensive", false), cheap("cheap", false)).test(date));
+        Assert.assertEquals(list("cheap", "expensive"), tested);
+    }
+
+    @Test
+    public void andTestsCheapPredicateFirst() {
+        Assert.assertFalse(new DayPredicate.And(expensive("expensive", true), cheap("cheap", false)).test(date));
+        Assert.assertEquals(list("cheap"), tested);
+
+        tested.clear();
+        Assert.assertTrue(new DayPredicate.And(expensive("expensive", true), cheap("cheap", true)).test(date));
+        Assert.assertEquals(list("cheap", "expensive"), tested);
+    }
+
+    @Test
+    public void givenOrderKeptWhenBothAreAlike() {
+        new DayPredicate.Or(expensive("first", false), expensive("second", false)).test(date);
+        new DayPredicate.Or(cheap("third", false), cheap("fourth", false)).test(date);
+        new DayPredicate.And(cheap("fifth", true), expensive("sixth", true)).test(date);
+        Assert.assertEquals(list("first", "second", "third", "fourth", "fifth", "sixth"), tested);
+    }
+
+    @Test
+    public void combinatorOfCheapPredicatesIsCheap() {
+        Assert.assertTrue(DayPredicate.Or.of(cheap("a", false), cheap("b", false)) instanceof DayPredicate.Cheap);
+        Assert.assertTrue(DayPredicate.And.of(cheap("a", false), cheap("b", false)) instanceof DayPredicate.Cheap);
+        Assert.assertFalse(DayPredicate.Or.of(cheap("a", false), expensive("b", false)) instanceof DayPredicate.Cheap);
+        Assert.assertFalse(DayPredicate.And.of(expensive("a", false), cheap("b", false)) instanceof DayPredicate.Cheap);
+        // the constructors do not mark it
+        Assert.assertFalse(new DayPredicate.Or(cheap("a", false), cheap("b", false)) instanceof DayPredicate.Cheap);
+    }
+
+    @Test
+    public void nestedCheapCombinatorIsTestedFirst() {
+        Assert.assertTrue(DayPredicate.Or.of(expensive("expensive", false),
+                DayPredicate.And.of(cheap("first", true), cheap("second", true))).test(date));
+        Assert.assertEquals(list("first", "second"), tested);
+
+        tested.clear();
+        Assert.assertFalse(DayPredicate.And.of(expensive("expensive", true),
+                DayPredicate.Or.of(cheap("first", false), cheap("second", false))).test(date));
+        Assert.assertEquals(list("first", "second"), tested);
+    }
+
+    private DayPredicate expensive(final String name, final boolean result) {
+        return new DayPredicate() {
+            @Override
+            public boolean test(Calendar date) {
+                tested.add(name);
+                return result;
+            }
+        };
+    }
+
+    private DayPredicate cheap(String name, boolean result) {
+        return new CheapPredicate(name, result);
+    }
+
+    private static List<String> list(String... names) {
+        List<String> list = new ArrayList<>();
+        for (String name : names) {
+            list.add(name);
+        }
+        return list;
+    }
+
+    private final class CheapPredicate implements DayPredicate, DayPredicate.Cheap {
+
+        private final String name;
+        private final boolean result;
+
+        CheapPredicate(String name, boolean result) {
+            this.name = name;
+            this.result = result;
+        }
+
+        @Override
+        public boolean test(Calendar date) {
+            tested.add(name);
+            return result;
+        }
+    }
+}
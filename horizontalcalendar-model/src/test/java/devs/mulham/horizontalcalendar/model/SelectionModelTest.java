@@ -0,0 +1,182 @@
+package devs.mulham.horizontalcalendar.model;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SelectionModelTest {
+
+    private final List<DateRange> changes = new ArrayList<>();
+    private final SelectionModel.ChangeListener recorder = new SelectionModel.ChangeListener() {
+        @Override
+        public void onDaysChanged(int fromDay, int toDay) {
+            changes.add(new DateRange(fromDay, toDay));
+        }
+    };
+
+    // days 105 and 120, and the day before the epoch, are disabled
+    private final SelectionModel.DisabledDays disabledDays = new SelectionModel.DisabledDays() {
+        @Override
+        public int firstDisabledDay(int fromDay, int toDay) {
+            for (int day : new int[]{-1, 105, 120}) {
+                if ((day >= fromDay) && (day <= toDay)) {
+                    return day;
+                }
+            }
+            return SelectionModel.DisabledDays.NONE;
+        }
+    };
+
+    @Before
+    public void setUp() {
+        changes.clear();
+    }
+
+    private SelectionModel newModel(int mode) {
+        SelectionModel selection = new SelectionModel(mode);
+        selection.setDisabledDays(disabledDays);
+        selection.setChangeListener(recorder);
+        return selection;
+    }
+
+    @Test
+    public void singleModeReportsOnlyBothChangedDays() {
+        SelectionModel selection = newModel(SelectionModel.MODE_SINGLE);
+        selection.select(100);
+        changes.clear();
+
+        Assert.assertTrue(selection.select(110));
+        Assert.assertFalse(selection.isSelected(100));
+        Assert.assertTrue(selection.isSelected(110));
+        Assert.assertEquals(2, changes.size());
+        Assert.assertEquals(new DateRange(100, 100), changes.get(0));
+        Assert.assertEquals(new DateRange(110, 110), changes.get(1));
+    }
+
+    @Test
+    public void multipleModeTogglesDays() {
+        SelectionModel selection = newModel(SelectionModel.MODE_MULTIPLE);
+        selection.select(100);
+        selection.select(101);
+        selection.select(100);
+
+        Assert.assertEquals(1, selection.getSelectedCount());
+        Assert.assertTrue(selection.isSelected(101));
+        Assert.assertEquals(101, selection.nextSelectedDay(0));
+    }
+
+    @Test
+    public void disabledDayIsNotSelected() {
+        SelectionModel selection = newModel(SelectionModel.MODE_MULTIPLE);
+
+        Assert.assertFalse(selection.select(105));
+        Assert.assertTrue(selection.isEmpty());
+        Assert.assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void dayBeforeEpochIsDisabled() {
+        SelectionModel selection = newModel(SelectionModel.MODE_RANGE);
+        Assert.assertFalse(selection.select(-1));
+        selection.select(-5);
+
+        Assert.assertFalse(selection.select(5));
+        Assert.assertFalse(selection.isRangeComplete());
+    }
+
+    @Test
+    public void rangeIsPickedInTwoSelects() {
+        SelectionModel selection = newModel(SelectionModel.MODE_RANGE);
+        Assert.assertTrue(selection.select(106));
+        Assert.assertFalse(selection.isRangeComplete());
+
+        changes.clear();
+        Assert.assertTrue(selection.select(110));
+        Assert.assertTrue(selection.isRangeComplete());
+        Assert.assertEquals(106, selection.getRangeStart());
+        Assert.assertEquals(110, selection.getRangeEnd());
+        Assert.assertEquals(5, selection.getSelectedCount());
+        // the first day was already selected
+        Assert.assertEquals(1, changes.size());
+        Assert.assertEquals(new DateRange(107, 110), changes.get(0));
+    }
+
+    @Test
+    public void movingRangeReportsOnlyFlippedDays() {
+        SelectionModel selection = newModel(SelectionModel.MODE_RANGE);
+        selection.selectRange(106, 112);
+        changes.clear();
+
+        Assert.assertTrue(selection.selectRange(108, 115));
+        Assert.assertEquals(2, changes.size());
+        Assert.assertEquals(new DateRange(106, 107), changes.get(0));
+        Assert.assertEquals(new DateRange(113, 115), changes.get(1));
+    }
+
+    @Test
+    public void rangeOverDisabledDayIsRefused() {
+        SelectionModel selection = newModel(SelectionModel.MODE_RANGE);
+        selection.select(100);
+
+        Assert.assertFalse(selection.select(110));
+        Assert.assertFalse(selection.isRangeComplete());
+        Assert.assertTrue(selection.isSelected(100));
+    }
+
+    @Test
+    public void rangeLengthIsEnforced() {
+        SelectionModel selection = newModel(SelectionModel.MODE_RANGE);
+        selection.setRangeLength(2, 4);
+
+        Assert.assertFalse(selection.selectRange(106, 106));
+        Assert.assertFalse(selection.selectRange(106, 110));
+        Assert.assertTrue(selection.selectRange(106, 109));
+    }
+
+    @Test
+    public void savedStateIsRestored() {
+        SelectionModel selection = newModel(SelectionModel.MODE_MULTIPLE);
+        selection.select(100);
+        selection.select(101);
+        selection.select(110);
+
+        SelectionModel restored = newModel(SelectionModel.MODE_MULTIPLE);
+        changes.clear();
+        restored.restoreState(selection.saveState());
+
+        Assert.assertEquals(3, restored.getSelectedCount());
+        Assert.assertTrue(restored.isSelected(101));
+        Assert.assertTrue(restored.isSelected(110));
+        Assert.assertEquals(2, changes.size());
+        Assert.assertEquals(new DateRange(100, 101), changes.get(0));
+    }
+
+    @Test
+    public void savedRangeIsRestored() {
+        SelectionModel selection = newModel(SelectionModel.MODE_RANGE);
+        selection.selectRange(106, 112);
+
+        SelectionModel restored = newModel(SelectionModel.MODE_RANGE);
+        restored.restoreState(selection.saveState());
+
+        Assert.assertTrue(restored.isRangeComplete());
+        Assert.assertEquals(106, restored.getRangeStart());
+        Assert.assertEquals(112, restored.getRangeEnd());
+        Assert.assertEquals(7, restored.getSelectedCount());
+    }
+
+    @Test
+    public void selectionSurvivesEarlierDays() {
+        SelectionModel selection = newModel(SelectionModel.MODE_MULTIPLE);
+        selection.select(5000);
+        selection.select(-20000);
+
+        Assert.assertTrue(selection.isSelected(5000));
+        Assert.assertTrue(selection.isSelected(-20000));
+        Assert.assertEquals(-20000, selection.nextSelectedDay(-30000));
+        Assert.assertEquals(5000, selection.nextSelectedDay(-19999));
+    }
+}
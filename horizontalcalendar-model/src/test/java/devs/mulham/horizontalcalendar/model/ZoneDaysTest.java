@@ -0,0 +1,54 @@
+package devs.mulham.horizontalcalendar.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+public class ZoneDaysTest {
+
+    private static final String[] ZONES = {
+            "UTC", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe", "America/Sao_Paulo", "Pacific/Apia"
+    };
+
+    @Test
+    public void dayStartsMatchCalendarDay() {
+        for (String zone : ZONES) {
+            TimeZone timeZone = TimeZone.getTimeZone(zone);
+            ZoneDays zoneDays = new ZoneDays(timeZone);
+            Calendar calendar = Calendar.getInstance(timeZone);
+            for (int epochDay = 16000; epochDay < 18000; epochDay++) {
+                CalendarDay.setEpochDay(calendar, epochDay);
+                Assert.assertEquals(zone + " " + epochDay, calendar.getTimeInMillis(), zoneDays.startOf(epochDay));
+            }
+        }
+    }
+
+    @Test
+    public void everyInstantOfADayBelongsToIt() {
+        for (String zone : ZONES) {
+            ZoneDays zoneDays = new ZoneDays(TimeZone.getTimeZone(zone));
+            for (int epochDay = 16000; epochDay < 18000; epochDay++) {
+                long start = zoneDays.startOf(epochDay);
+                long end = zoneDays.startOf(epochDay + 1);
+                Assert.assertEquals(zone + " " + epochDay, epochDay, zoneDays.epochDayAt(start));
+                Assert.assertEquals(zone + " " + epochDay, epochDay, zoneDays.epochDayAt(end - 1));
+            }
+        }
+    }
+
+    @Test
+    public void calendarsAreOfTheZone() {
+        ZoneDays zoneDays = new ZoneDays(TimeZone.getTimeZone("Asia/Kolkata"));
+        Calendar calendar = zoneDays.toCalendar(17532);
+
+        Assert.assertEquals("Asia/Kolkata", calendar.getTimeZone().getID());
+        Assert.assertEquals(17532, CalendarDay.epochDayOf(calendar));
+        Assert.assertEquals(0, calendar.get(Calendar.HOUR_OF_DAY));
+
+        calendar = CalendarDay.of(17532).toCalendar(zoneDays);
+        Assert.assertEquals("Asia/Kolkata", calendar.getTimeZone().getID());
+        Assert.assertEquals(17532, CalendarDay.epochDayOf(calendar));
+    }
+}
@@ -0,0 +1,275 @@
+package devs.mulham.horizontalcalendar;
+
+import android.annotation.TargetApi;
+import android.content.Context;
+import android.os.Build;
+import android.support.v7.widget.RecyclerView;
+import android.view.Choreographer;
+import android.view.WindowManager;
+
+import java.util.Arrays;
+
+import devs.mulham.horizontalcalendar.adapter.HorizontalCalendarBaseAdapter;
+
+/**
+ * Measures the frames of each scroll session of a {@link HorizontalCalendarView}: from the moment the user
+ * starts dragging until the calendar is idle again, frame intervals are recorded with
+ * {@link Choreographer.FrameCallback}s and a {@link Report} is passed to the listener when the session ends.
+ * <p>
+ * Frames are only recorded while scrolling, recording does not allocate once the buffer has grown
+ * to the length of a session. Needs API 16, on older devices no session is ever reported.
+ * <p>
+ * The frame callback lives in its own class, only loaded on API 16 and later.
+ *
+ * @since v1.4.0
+ */
+public final class CalendarJankMonitor extends RecyclerView.OnScrollListener {
+
+    private static final long NANOS_PER_SECOND = 1000000000L;
+    private static final float NANOS_PER_MILLI = 1000000f;
+
+    public interface Listener {
+        void onScrollSessionEnd(Report report);
+    }
+
+    private final HorizontalCalendarView calendarView;
+    private final Listener listener;
+    private final long expectedFrameNanos;
+    // null below API 16
+    private FrameRecorder frameRecorder;
+
+    private boolean recording;
+    private long sessionStartNanos;
+    private long lastFrameNanos;
+    private int sessionStartBinds;
+
+    // intervals between two frames of the session, grown when needed and reused across sessions
+    private long[] intervals = new long[256];
+    private int intervalsCount;
+
+    private CalendarJankMonitor(HorizontalCalendarView calendarView, Listener listener) {
+        this.calendarView = calendarView;
+        this.listener = listener;
+
+        float refreshRate = 60f;
+        WindowManager windowManager = (WindowManager) calendarView.getContext().getSystemService(Context.WINDOW_SERVICE);
+        if (windowManager != null) {
+            refreshRate = windowManager.getDefaultDisplay().getRefreshRate();
+        }
+        this.expectedFrameNanos = (long) (NANOS_PER_SECOND / Math.max(refreshRate, 1f));
+    }
+
+    /**
+     * Start monitoring the scroll sessions of this calendar.
+     *
+     * @param listener notified on the main thread at the end of each scroll session
+     * @return the monitor, to {@link #detach()} it later
+     */
+    public static CalendarJankMonitor attach(HorizontalCalendarView calendarView, Listener listener) {
+        CalendarJankMonitor monitor = new CalendarJankMonitor(calendarView, listener);
+        if (Build.VERSION.SDK_INT >= 16) {
+            monitor.frameRecorder = new FrameRecorder(monitor);
+        }
+        calendarView.addOnScrollListener(monitor);
+        return monitor;
+    }
+
+    /**
+     * Stop monitoring, a session in progress is dropped without being reported.
+     */
+    public void detach() {
+        calendarView.removeOnScrollListener(this);
+        if (recording) {
+            recording = false;
+            frameRecorder.stop();
+        }
+    }
+
+    boolean isRecording() {
+        return recording;
+    }
+
+    @Override
+    public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
+        if (frameRecorder == null) {
+            return;
+        }
+
+        if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+            if (recording) {
+                recording = false;
+                frameRecorder.stop();
+                endSession();
+            }
+        } else if (!recording) {
+            // DRAGGING or SETTLING, a fling continues the session started by the drag
+            recording = true;
+            sessionStartNanos = 0;
+            lastFrameNanos = 0;
+            intervalsCount = 0;
+            sessionStartBinds = bindCount();
+            frameRecorder.start();
+        }
+    }
+
+    /**
+     * @return true to be called again on the next frame
+     */
+    boolean onFrame(long frameTimeNanos) {
+        if (!recording) {
+            return false;
+        }
+
+        if (lastFrameNanos == 0) {
+            sessionStartNanos = frameTimeNanos;
+        } else {
+            if (intervalsCount == intervals.length) {
+                intervals = Arrays.copyOf(intervals, intervals.length * 2);
+            }
+            intervals[intervalsCount++] = frameTimeNanos - lastFrameNanos;
+        }
+        lastFrameNanos = frameTimeNanos;
+        return true;
+    }
+
+    private void endSession() {
+        if (intervalsCount == 0) {
+            return;
+        }
+
+        int droppedFrames = 0;
+        for (int i = 0; i < intervalsCount; i++) {
+            // an interval of n expected frames means n - 1 frames were skipped
+            long frames = (intervals[i] + (expectedFrameNanos / 2)) / expectedFrameNanos;
+            if (frames > 1) {
+                droppedFrames += (int) (frames - 1);
+            }
+        }
+
+        Arrays.sort(intervals, 0, intervalsCount);
+        Report report = new Report(
+                intervalsCount,
+                droppedFrames,
+                (lastFrameNanos - sessionStartNanos) / NANOS_PER_MILLI,
+                percentile(50) / NANOS_PER_MILLI,
+                percentile(90) / NANOS_PER_MILLI,
+                percentile(99) / NANOS_PER_MILLI,
+                (bindCount() - sessionStartBinds) / (float) intervalsCount);
+        if (listener != null) {
+            listener.onScrollSessionEnd(report);
+        }
+    }
+
+    /**
+     * Nearest rank percentile of the sorted intervals
+     */
+    private long percentile(int percent) {
+        int rank = (int) Math.ceil((percent / 100.0) * intervalsCount);
+        return intervals[Math.max(rank, 1) - 1];
+    }
+
+    private int bindCount() {
+        RecyclerView.Adapter adapter = calendarView.getAdapter();
+        if (adapter instanceof HorizontalCalendarBaseAdapter) {
+            return ((HorizontalCalendarBaseAdapter) adapter).getBindCount();
+        }
+        return 0;
+    }
+
+    /**
+     * Calls {@link #onFrame(long)} on every frame while started.
+     */
+    @TargetApi(16)
+    private static final class FrameRecorder implements Choreographer.FrameCallback {
+
+        private final CalendarJankMonitor monitor;
+
+        FrameRecorder(CalendarJankMonitor monitor) {
+            this.monitor = monitor;
+        }
+
+        void start() {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        void stop() {
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            if (monitor.onFrame(frameTimeNanos)) {
+                Choreographer.getInstance().postFrameCallback(this);
+            }
+        }
+    }
+
+    /**
+     * Frame statistics of one scroll session, times are in milliseconds.
+     */
+    public static final class Report {
+
+        private final int frames;
+        private final int droppedFrames;
+        private final float durationMillis;
+        private final float p50FrameMillis;
+        private final float p90FrameMillis;
+        private final float p99FrameMillis;
+        private final float bindsPerFrame;
+
+        Report(int frames, int droppedFrames, float durationMillis, float p50FrameMillis,
+               float p90FrameMillis, float p99FrameMillis, float bindsPerFrame) {
+            this.frames = frames;
+            this.droppedFrames = droppedFrames;
+            this.durationMillis = durationMillis;
+            this.p50FrameMillis = p50FrameMillis;
+            this.p90FrameMillis = p90FrameMillis;
+            this.p99FrameMillis = p99FrameMillis;
+            this.bindsPerFrame = bindsPerFrame;
+        }
+
+        /**
+         * @return number of frames drawn during the session
+         */
+        public int getFrames() {
+            return frames;
+        }
+
+        /**
+         * @return number of frames skipped, a frame taking twice the display refresh interval drops one
+         */
+        public int getDroppedFrames() {
+            return droppedFrames;
+        }
+
+        public float getDurationMillis() {
+            return durationMillis;
+        }
+
+        public float getP50FrameMillis() {
+            return p50FrameMillis;
+        }
+
+        public float getP90FrameMillis() {
+            return p90FrameMillis;
+        }
+
+        public float getP99FrameMillis() {
+            return p99FrameMillis;
+        }
+
+        /**
+         * @return cells bound (including style only rebinds) per frame
+         */
+        public float getBindsPerFrame() {
+            return bindsPerFrame;
+        }
+
+        @Override
+        public String toString() {
+            return "Report{frames=" + frames + ", dropped=" + droppedFrames + ", duration=" + durationMillis
+                    + "ms, p50=" + p50FrameMillis + "ms, p90=" + p90FrameMillis + "ms, p99=" + p99FrameMillis
+                    + "ms, bindsPerFrame=" + bindsPerFrame + "}";
+        }
+    }
+}
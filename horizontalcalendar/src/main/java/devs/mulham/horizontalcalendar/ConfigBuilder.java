@@ -3,6 +3,7 @@ package devs.mulham.horizontalcalendar;
 import android.graphics.drawable.Drawable;
 
 import devs.mulham.horizontalcalendar.model.CalendarItemStyle;
+import devs.mulham.horizontalcalendar.model.CalendarSystem;
 import devs.mulham.horizontalcalendar.model.HorizontalCalendarConfig;
 
 /**
@@ -21,6 +22,10 @@ public class ConfigBuilder {
     private String formatBottomText;
     private boolean showTopText = true;
     private boolean showBottomText = true;
+    private int labelCacheSize;
+    private CalendarSystem calendarSystemTopText = CalendarSystem.GREGORIAN;
+    private CalendarSystem calendarSystemMiddleText = CalendarSystem.GREGORIAN;
+    private CalendarSystem calendarSystemBottomText = CalendarSystem.GREGORIAN;
 
     /* Colors and Background*/
     private int colorTextTop, colorTextTopSelected, colorTextTopToday;
@@ -109,6 +114,48 @@ public class ConfigBuilder {
         return this;
     }
 
+    /**
+     * Set how many formatted labels are kept for each of the top, middle and bottom formats.
+     * By default the cache covers a few weeks around the visible dates.
+     *
+     * @param size number of cached labels per format
+     */
+    public ConfigBuilder labelCacheSize(int size) {
+        this.labelCacheSize = size;
+        return this;
+    }
+
+    /**
+     * Show the days, months and years of every label in another calendar system, weekdays are not affected.
+     * Only the {@code d}, {@code M} and {@code y} pattern letters are converted, {@code E} is the same weekday in every system.
+     *
+     * @param calendarSystem for instance {@link CalendarSystem#BUDDHIST} or {@link CalendarSystem#HIJRI}
+     */
+    public ConfigBuilder calendarSystem(CalendarSystem calendarSystem) {
+        calendarSystemTopText = calendarSystem;
+        calendarSystemMiddleText = calendarSystem;
+        calendarSystemBottomText = calendarSystem;
+        return this;
+    }
+
+    public ConfigBuilder calendarSystemTopText(CalendarSystem calendarSystem) {
+        this.calendarSystemTopText = calendarSystem;
+        return this;
+    }
+
+    /**
+     * The month boundaries of the calendar follow the calendar system of the middle label, the day of month by default.
+     */
+    public ConfigBuilder calendarSystemMiddleText(CalendarSystem calendarSystem) {
+        this.calendarSystemMiddleText = calendarSystem;
+        return this;
+    }
+
+    public ConfigBuilder calendarSystemBottomText(CalendarSystem calendarSystem) {
+        this.calendarSystemBottomText = calendarSystem;
+        return this;
+    }
+
     public ConfigBuilder textColor(int textColorNormal, int textColorSelected, int textColorToday) {
         colorTextTop = textColorNormal;
         colorTextMiddle = textColorNormal;
@@ -170,6 +217,10 @@ public class ConfigBuilder {
         config.setFormatBottomText(formatBottomText);
         config.setShowTopText(showTopText);
         config.setShowBottomText(showBottomText);
+        config.setLabelCacheSize(labelCacheSize);
+        config.setCalendarSystemTopText(calendarSystemTopText);
+        config.setCalendarSystemMiddleText(calendarSystemMiddleText);
+        config.setCalendarSystemBottomText(calendarSystemBottomText);
 
         return config;
     }
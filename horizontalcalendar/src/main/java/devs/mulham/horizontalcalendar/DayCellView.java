@@ -0,0 +1,196 @@
+package devs.mulham.horizontalcalendar;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.text.TextPaint;
+import android.util.AttributeSet;
+import android.util.DisplayMetrics;
+import android.util.TypedValue;
+import android.view.View;
+
+/**
+ * A date cell drawn as a single view: top, middle and bottom texts, the selector bar and the
+ * selected background, instead of the FrameLayout, LinearLayout, three TextViews and selector
+ * View of {devs.mulham.horizontalcalendar.R.layout#hc_item_calendar}.
+ * A hidden line takes no space, like a GONE TextView, the selector bar always keeps its space.
+ * <p>
+ * Text widths and font metrics are measured when a text or a size changes, not while drawing.
+ *
+ * @since v1.4.0
+ */
+public class DayCellView extends View {
+
+    public static final int LINE_TOP = 0;
+    public static final int LINE_MIDDLE = 1;
+    public static final int LINE_BOTTOM = 2;
+    private static final int LINES_COUNT = 3;
+
+    private static final float LINE_MARGIN_DP = 4f;
+    private static final float SELECTOR_HEIGHT_DP = 2f;
+
+    private final TextPaint[] paints = new TextPaint[LINES_COUNT];
+    private final CharSequence[] texts = new CharSequence[LINES_COUNT];
+    private final float[] textWidths = new float[LINES_COUNT];
+    private final boolean[] visible = {true, true, true};
+
+    // pre-measured for the current text sizes
+    private final Paint.FontMetrics fontMetrics = new Paint.FontMetrics();
+    private final float[] ascents = new float[LINES_COUNT];
+    private final float[] lineHeights = new float[LINES_COUNT];
+
+    private final Paint selectorPaint = new Paint();
+    private boolean selectorVisible;
+    private Drawable contentBackground;
+
+    private final int lineMargin;
+    private final int selectorHeight;
+
+    public DayCellView(Context context) {
+        this(context, null);
+    }
+
+    public DayCellView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+
+        final DisplayMetrics metrics = getResources().getDisplayMetrics();
+        lineMargin = Math.round(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, LINE_MARGIN_DP, metrics));
+        selectorHeight = Math.round(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, SELECTOR_HEIGHT_DP, metrics));
+
+        for (int line = 0; line < LINES_COUNT; line++) {
+            paints[line] = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+            paints[line].setTextAlign(Paint.Align.CENTER);
+            paints[line].setColor(Color.LTGRAY);
+        }
+        paints[LINE_MIDDLE].setTypeface(Typeface.DEFAULT_BOLD);
+        setTextSize(LINE_TOP, 14f);
+        setTextSize(LINE_MIDDLE, 24f);
+        setTextSize(LINE_BOTTOM, 14f);
+    }
+
+    public void setText(int line, CharSequence text) {
+        if (texts[line] == text) {
+            return;
+        }
+        texts[line] = text;
+        float oldWidth = textWidths[line];
+        textWidths[line] = (text == null) ? 0 : paints[line].measureText(text, 0, text.length());
+        if ((textWidths[line] > getMeasuredWidth()) || (oldWidth >= getMeasuredWidth())) {
+            requestLayout();
+        }
+        invalidate();
+    }
+
+    /**
+     * @param line one of {@link #LINE_TOP}, {@link #LINE_MIDDLE} or {@link #LINE_BOTTOM}
+     * @param size text size in scale-independent pixels
+     */
+    public void setTextSize(int line, float size) {
+        final TextPaint paint = paints[line];
+        paint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, size, getResources().getDisplayMetrics()));
+        paint.getFontMetrics(fontMetrics);
+        ascents[line] = fontMetrics.ascent;
+        lineHeights[line] = fontMetrics.descent - fontMetrics.ascent;
+        final CharSequence text = texts[line];
+        textWidths[line] = (text == null) ? 0 : paint.measureText(text, 0, text.length());
+        requestLayout();
+        invalidate();
+    }
+
+    public void setTextColor(int line, int color) {
+        paints[line].setColor(color);
+        invalidate();
+    }
+
+    public void setLineVisible(int line, boolean isVisible) {
+        if (visible[line] != isVisible) {
+            visible[line] = isVisible;
+            requestLayout();
+            invalidate();
+        }
+    }
+
+    public void setSelectorColor(int color) {
+        selectorPaint.setColor(color);
+        invalidate();
+    }
+
+    public int getSelectorColor() {
+        return selectorPaint.getColor();
+    }
+
+    public void setSelectorVisible(boolean isVisible) {
+        if (selectorVisible != isVisible) {
+            selectorVisible = isVisible;
+            invalidate();
+        }
+    }
+
+    /**
+     * @param background drawn behind the texts, the view background is kept for the touch feedback
+     */
+    public void setContentBackground(Drawable background) {
+        if (contentBackground == background) {
+            return;
+        }
+        if (contentBackground != null) {
+            contentBackground.setCallback(null);
+        }
+        contentBackground = background;
+        if (background != null) {
+            background.setCallback(this);
+        }
+        invalidate();
+    }
+
+    @Override
+    protected boolean verifyDrawable(Drawable who) {
+        return (who == contentBackground) || super.verifyDrawable(who);
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        float contentWidth = 0;
+        float contentHeight = lineMargin + selectorHeight;
+        for (int line = 0; line < LINES_COUNT; line++) {
+            if (visible[line]) {
+                contentWidth = Math.max(contentWidth, textWidths[line]);
+                contentHeight += lineMargin + lineHeights[line];
+            }
+        }
+
+        int width = Math.max(getSuggestedMinimumWidth(), (int) Math.ceil(contentWidth) + getPaddingLeft() + getPaddingRight());
+        int height = Math.max(getSuggestedMinimumHeight(), (int) Math.ceil(contentHeight) + getPaddingTop() + getPaddingBottom());
+        setMeasuredDimension(resolveSize(width, widthMeasureSpec), resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        if (contentBackground != null) {
+            contentBackground.setBounds(0, 0, getWidth(), getHeight());
+            contentBackground.draw(canvas);
+        }
+
+        final float centerX = getPaddingLeft() + ((getWidth() - getPaddingLeft() - getPaddingRight()) / 2f);
+        float y = getPaddingTop();
+        for (int line = 0; line < LINES_COUNT; line++) {
+            if (!visible[line]) {
+                continue;
+            }
+            y += lineMargin;
+            final CharSequence text = texts[line];
+            if (text != null) {
+                canvas.drawText(text, 0, text.length(), centerX, y - ascents[line], paints[line]);
+            }
+            y += lineHeights[line];
+        }
+
+        if (selectorVisible) {
+            y += lineMargin;
+            canvas.drawRect(getPaddingLeft(), y, getWidth() - getPaddingRight(), y + selectorHeight, selectorPaint);
+        }
+    }
+}
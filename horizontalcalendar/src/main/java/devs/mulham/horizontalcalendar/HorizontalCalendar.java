@@ -3,23 +3,32 @@ package devs.mulham.horizontalcalendar;
 import android.annotation.TargetApi;
 import android.app.Activity;
 import android.content.Context;
-import android.graphics.Color;
 import android.support.v7.widget.RecyclerView;
-import android.text.format.DateFormat;
-import android.util.Log;
 import android.view.View;
 
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
-import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.Executor;
 
 import devs.mulham.horizontalcalendar.adapter.DaysAdapter;
 import devs.mulham.horizontalcalendar.adapter.HorizontalCalendarBaseAdapter;
+import devs.mulham.horizontalcalendar.model.CalendarDay;
 import devs.mulham.horizontalcalendar.model.CalendarItemStyle;
+import devs.mulham.horizontalcalendar.model.CalendarModel;
+import devs.mulham.horizontalcalendar.model.CalendarSystemDates;
+import devs.mulham.horizontalcalendar.model.DateEngine;
+import devs.mulham.horizontalcalendar.model.DateRange;
 import devs.mulham.horizontalcalendar.model.HorizontalCalendarConfig;
+import devs.mulham.horizontalcalendar.model.SelectionModel;
+import devs.mulham.horizontalcalendar.model.ZoneDays;
+import devs.mulham.horizontalcalendar.utils.CalendarTrace;
+import devs.mulham.horizontalcalendar.utils.CalendarTracer;
+import devs.mulham.horizontalcalendar.utils.DisabledDatesIndex;
 import devs.mulham.horizontalcalendar.utils.HorizontalCalendarListener;
 import devs.mulham.horizontalcalendar.utils.HorizontalCalendarPredicate;
-import devs.mulham.horizontalcalendar.utils.Utils;
+import devs.mulham.horizontalcalendar.utils.LabelCache;
+import devs.mulham.horizontalcalendar.utils.LocaleFormats;
+import devs.mulham.horizontalcalendar.utils.SelectionDispatchPolicy;
 
 
 /**
@@ -31,6 +40,12 @@ import devs.mulham.horizontalcalendar.utils.Utils;
  */
 public final class HorizontalCalendar {
 
+    /**
+     * Number of days held by the adapter of an unbounded calendar, the window slides
+     * when the user gets closer than a quarter of it to one of its edges
+     */
+    public static final int UNBOUNDED_WINDOW_DAYS = 10 * 365;
+
     //region private Fields
     HorizontalCalendarView calendarView;
     private HorizontalCalendarBaseAdapter mCalendarAdapter;
@@ -39,6 +54,38 @@ public final class HorizontalCalendar {
     Calendar startDate;
     Calendar endDate;
 
+    //Range, today, selection and week paging math
+    private final CalendarModel model;
+    //Range as epoch days, owned by the model and shared with the adapter
+    private final DateEngine dateEngine;
+
+    //true if the range is a window sliding over all dates
+    private boolean unbounded;
+
+    //Precomputed disable predicate results, null if not indexed
+    private DisabledDatesIndex disabledDatesIndex;
+
+    //Draw each date as a single DayCellView
+    private final boolean flatDayCells;
+
+    //Selected days in multiple and range modes, null in the default single selection mode
+    private final SelectionModel selectionModel;
+
+    //Swipes settle on week pages through the layout manager and WeekSnapHelper
+    private final boolean weekPaging;
+
+    //true once a saved state was restored, the initial scroll is then skipped
+    private boolean restored;
+
+    //Reports the selected dates to the listener, immediately, coalesced or debounced
+    private final SelectionDispatcher selectionDispatcher;
+
+    //Draws the selection over the cells, null when each cell shows its own
+    private SelectionDecoration selectionDecoration;
+
+    //Dates of the calendar system of the middle label, for the month boundaries, created on first use
+    private CalendarSystemDates monthDates;
+
     //Number of Dates to Show on Screen
     private final int numberOfDatesOnScreen;
 
@@ -51,9 +98,6 @@ public final class HorizontalCalendar {
 
     public String weekDay;
 
-    //store position of last selected adapter position
-    private int lastSelectedPosition;
-
     //store position of last selected adapter position
     private int longClickedPosition;
 
@@ -69,6 +113,9 @@ public final class HorizontalCalendar {
     private final HorizontalCalendarConfig config;
     //endregion
 
+    //Day starts of the calendar time zone, every Calendar given to the listeners and predicates is of this zone
+    private final ZoneDays zoneDays;
+
     /**
      * Private Constructor to insure HorizontalCalendar can't be initiated the default way
      */
@@ -77,6 +124,20 @@ public final class HorizontalCalendar {
         this.calendarId = builder.viewId;
         this.startDate = builder.startDate;
         this.endDate = builder.endDate;
+        this.zoneDays = builder.zoneDays;
+        this.model = new CalendarModel(CalendarDay.epochDayOf(startDate), CalendarDay.epochDayOf(endDate),
+                numberOfDatesOnScreen, builder.firstDayOfWeek, CalendarDay.epochDayOf(builder.todayDate));
+        this.dateEngine = model.getDateEngine();
+        this.unbounded = builder.unbounded;
+        this.flatDayCells = builder.flatDayCells;
+        this.weekPaging = builder.weekPaging;
+        this.selectionDispatcher = new SelectionDispatcher(this, builder.selectionDispatchPolicy);
+        if (builder.selectionMode != SelectionModel.MODE_SINGLE) {
+            this.selectionModel = new SelectionModel(builder.selectionMode);
+            this.selectionModel.setRangeLength(builder.minRangeDays, builder.maxRangeDays);
+        } else {
+            this.selectionModel = null;
+        }
         this.config = config;
         this.defaultStyle = defaultStyle;
         this.selectedItemStyle = selectedItemStyle;
@@ -84,7 +145,8 @@ public final class HorizontalCalendar {
     }
 
     /* Init Calendar View */
-    void init(View rootView, final Calendar defaultSelectedDate ,final Calendar todayDate, HorizontalCalendarPredicate disablePredicate) {
+    void init(View rootView, final Calendar defaultSelectedDate ,final Calendar todayDate, HorizontalCalendarPredicate disablePredicate,
+              boolean indexDisabledDates, Executor indexExecutor, boolean decorateSelection) {
         calendarView = rootView.findViewById(calendarId);
         calendarView.setHasFixedSize(true);
         calendarView.setHorizontalScrollBarEnabled(false);
@@ -98,44 +160,75 @@ public final class HorizontalCalendar {
 //        snapHelperTop.attachToRecyclerView(calendarView);
 
 
-        if (disablePredicate == null) {
-            disablePredicate = defaultDisablePredicate;
-        } else {
-            disablePredicate = new HorizontalCalendarPredicate.Or(disablePredicate, defaultDisablePredicate);
+        // out of range dates are disabled by the adapter itself
+        mCalendarAdapter = new DaysAdapter(this, dateEngine, disablePredicate, flatDayCells);
+        if (indexDisabledDates && (disablePredicate != null)) {
+            disabledDatesIndex = new DisabledDatesIndex(disablePredicate, indexExecutor, zoneDays);
+            mCalendarAdapter.setDisabledDatesIndex(disabledDatesIndex);
+            buildDisabledDatesIndex();
+        }
+        if (selectionModel != null) {
+            selectionModel.setDisabledDays(new SelectionModel.DisabledDays() {
+                @Override
+                public int firstDisabledDay(int fromDay, int toDay) {
+                    return mCalendarAdapter.firstDisabledDay(fromDay, toDay);
+                }
+            });
+            selectionModel.setChangeListener(new SelectionModel.ChangeListener() {
+                @Override
+                public void onDaysChanged(int fromDay, int toDay) {
+                    notifyDaysChanged(fromDay, toDay);
+                }
+            });
+        }
+        if (decorateSelection && (selectionModel == null)) {
+            selectionDecoration = new SelectionDecoration(this);
+            selectionDecoration.attachTo(calendarView);
         }
-
-        mCalendarAdapter = new DaysAdapter(this, startDate, endDate, disablePredicate);
         calendarView.setAdapter(mCalendarAdapter);
         calendarView.setLayoutManager(new HorizontalLayoutManager(calendarView.getContext(), false));
         calendarView.getLayoutManager().setScrollEnabled(true);
         calendarView.getLayoutManager().canScrollHorizontally();
+        // every cell is a fraction of the screen width, see Utils.calculateCellWidth
+        calendarView.getLayoutManager().setFixedCellWidth(mCalendarAdapter.getCellWidth());
+        if (weekPaging) {
+            calendarView.getLayoutManager().setWeekPaging(model);
+            new WeekSnapHelper(new WeekSnapHelper.OnPageListener() {
+                @Override
+                public void onPageSelected(int pageStart) {
+                    selectInWeekPage(pageStart);
+                }
+            }).attachToRecyclerView(calendarView);
+        }
 
         //uncomment for listen to scroll event
         calendarView.addOnScrollListener(new HorizontalCalendarScrollListener());
 
 
-        SimpleDateFormat dayFormat = new SimpleDateFormat("EEEE", Locale.getDefault());
-        weekDay = dayFormat.format(todayDate.getTime());
+        LocaleFormats.register(getContext());
+        weekDay = LocaleFormats.get().getWeekdayName(todayDate.get(Calendar.DAY_OF_WEEK));
 
 //        longClickedPosition = -1;
-        Log.d("Today: ","" + weekDay);
 
-        positionOfToday = positionOfDate(todayDate);
-        lastSelectedPosition = positionOfToday;
+        positionOfToday = model.getTodayPosition();
 
         //if selected date from month view not null
         if(defaultSelectedDate != null){
             post(new Runnable() {
                 @Override
                 public void run() {
-                    scrollToDatePositionWithNoAnimation(positionOfDate(defaultSelectedDate));
+                    if (!restored) {
+                        scrollToDatePositionWithNoAnimation(positionOfDate(defaultSelectedDate));
+                    }
                 }
             });
         }else{
             post(new Runnable() {
                 @Override
                 public void run() {
-                    weekDayNoAnimation(positionOfTodayDateNoshift(todayDate));
+                    if (!restored) {
+                        weekDayNoAnimation(positionOfTodayDateNoshift(todayDate));
+                    }
                 }
             });
         }
@@ -173,10 +266,16 @@ public final class HorizontalCalendar {
     public void selectDate(Calendar date, boolean immediate) {
 
         int datePosition = positionOfDate(date);
+        if ((datePosition == -1) && unbounded) {
+            // jump the window to the date, nothing of the current window stays visible
+            final int epochDay = CalendarDay.epochDayOf(date);
+            slideWindow(epochDay - mCalendarAdapter.getEpochDay(dateEngine.getItemCount() / 2), false);
+            datePosition = positionOfDate(date);
+        }
         if (immediate) {
             centerToPositionWithNoAnimation(datePosition);
             if (calendarListener != null) {
-                calendarListener.onDateSelected(date, datePosition);
+                selectionDispatcher.dispatch(CalendarDay.epochDayOf(date));
             }
         } else {
             calendarView.setSmoothScrollSpeed(HorizontalLayoutManager.SPEED_NORMAL);
@@ -204,7 +303,7 @@ public final class HorizontalCalendar {
      *
      */
     public Boolean dayBeforeLastSelectedPosition(Calendar date) {
-        return date.before(getDateAt(lastSelectedPosition));
+        return CalendarDay.epochDayOf(date) < mCalendarAdapter.getEpochDay(model.getSelectedPosition());
     }
 
     /**
@@ -214,7 +313,7 @@ public final class HorizontalCalendar {
      *
      */
     public Boolean dayAfterLastSelectedPosition(Calendar date) {
-        return date.after(getDateAt(lastSelectedPosition));
+        return CalendarDay.epochDayOf(date) > mCalendarAdapter.getEpochDay(model.getSelectedPosition());
     }
 
     /**
@@ -225,8 +324,8 @@ public final class HorizontalCalendar {
      */
     public void goNextDay(Calendar date) {
         int datePosition = positionOfDate(date);
-        //check if the given date is Saturday
-        if(getShiftCellsForWeekDay(datePosition)==0){ //if saturday
+        //check if the given date is the last day of week
+        if(getShiftCellsForWeekDay(datePosition)==0){ //if last day of week
             moveToWeekFirstOrLastDay(datePosition +1);
         }else{
 //            date.add(date.DATE,1);
@@ -243,8 +342,8 @@ public final class HorizontalCalendar {
      */
     public void goPreviousDay(Calendar date) {
         int datePosition = positionOfDate(date);
-        //check if the given date is Sunday
-        if(getShiftCellsForWeekDay(datePosition)== 6){ //if Sunday
+        //check if the given date is the first day of week
+        if(getShiftCellsForWeekDay(datePosition)== 6){ //if first day of week
             moveToWeekFirstOrLastDay(datePosition -1);
         }else{
 //            date.add(date.DATE,-1);
@@ -260,7 +359,7 @@ public final class HorizontalCalendar {
      */
     public void centerCalendarToPosition(final int position) {
         if (position != -1) {
-            int relativeCenterPosition = Utils.calculateRelativeCenterPosition(position, calendarView.getPositionOfCenterItem(), getShiftCellsCenter());
+            int relativeCenterPosition = model.relativeCenterPosition(position, calendarView.getPositionOfCenterItem());
             if (relativeCenterPosition == position) {
                 return;
             }
@@ -276,7 +375,7 @@ public final class HorizontalCalendar {
      */
     void centerToPositionWithNoAnimation(final int position) {
         if (position != -1) {
-            int relativeCenterPosition = Utils.calculateRelativeCenterPosition(position, calendarView.getPositionOfCenterItem(), getShiftCellsCenter());
+            int relativeCenterPosition = model.relativeCenterPosition(position, calendarView.getPositionOfCenterItem());
             if (relativeCenterPosition == position) {
                 return;
             }
@@ -302,7 +401,7 @@ public final class HorizontalCalendar {
      */
     void weekDayNoAnimation(final int position) {
         if (position != -1) {
-            int relativeCenterPosition = Utils.calculateRelativeCenterPosition(position, calendarView.getPositionOfCenterItem(), getShiftCellsCenter());
+            int relativeCenterPosition = model.relativeCenterPosition(position, calendarView.getPositionOfCenterItem());
             if (relativeCenterPosition == position) {
                 return;
             }
@@ -328,13 +427,13 @@ public final class HorizontalCalendar {
     public void scrollToPositionWithNoAnimation(final int position) {
         if (position != -1) {
 
-            if(lastSelectedPosition != -1){
+            if(model.getSelectedPosition() != -1){
 
                 if (calendarListener != null) {
-                    calendarListener.onDateSelected(getDateAt(position), position);
+                    selectionDispatcher.dispatch(dateEngine.dayAt(position));
 
                 }
-                final int oldSelectedItem = lastSelectedPosition;
+                final int oldSelectedItem = model.getSelectedPosition();
                 calendarView.scrollToPosition(position);
                 calendarView.post(new Runnable() {
                     @Override
@@ -342,7 +441,7 @@ public final class HorizontalCalendar {
                         final int newSelectedItem = position;
                         //refresh to update background colors
                         refreshItemsSelector(newSelectedItem, oldSelectedItem);
-                        lastSelectedPosition = position;
+                        setSelectedPosition(position);
                     }
                 });
             }
@@ -357,28 +456,19 @@ public final class HorizontalCalendar {
      */
     public void scrollToTodayPositionWithNoAnimation(final int position) {
         if (position != -1) {
-            if(lastSelectedPosition != -1){
-                Log.d("lastselected","not -1");
-
+            if(model.getSelectedPosition() != -1){
 
                 //call onDateSelected listener to update view
                 if (calendarListener != null) {
-                    calendarListener.onDateSelected(getDateAt(position), position);
+                    selectionDispatcher.dispatch(dateEngine.dayAt(position));
                 }
 
-                int relativePosition = position;
-
-                //when scroll to leftDirection on weekly bar
-                if(position > calendarView.getPositionOfCenterItem())
-                    relativePosition = position + getShiftCellsTodayWeekDay();
-                    //when scroll to rightDirection on weekly bar
-                else if(position < calendarView.getPositionOfCenterItem())
-                    // -6 as cell position start with 0 from rightDirection
-                    relativePosition = position + getShiftCellsTodayWeekDay() - 6;
+                //end of its week when moving forward, start of its week when moving backward
+                int relativePosition = model.weekPageTarget(position, calendarView.getPositionOfCenterItem());
 
 
                 //update day adapter layout in weekbar
-                final int oldSelectedItem = lastSelectedPosition;
+                final int oldSelectedItem = model.getSelectedPosition();
 //                calendarView.setSmoothScrollSpeed(HorizontalLayoutManager.SPEED_NORMAL);
                 calendarView.scrollToPosition(relativePosition);
                 calendarView.post(new Runnable() {
@@ -387,7 +477,7 @@ public final class HorizontalCalendar {
                         final int newSelectedItem = position;
                         //refresh to update background colors
                         refreshItemsSelector(newSelectedItem, oldSelectedItem);
-                        lastSelectedPosition = position;
+                        setSelectedPosition(position);
                     }
                 });
             }
@@ -401,29 +491,19 @@ public final class HorizontalCalendar {
      */
     public void scrollToDatePositionWithNoAnimation(final int position) {
         if (position != -1) {
-            if(lastSelectedPosition != -1){
-
+            if(model.getSelectedPosition() != -1){
 
                 //call onDateSelected listener to update view
                 if (calendarListener != null) {
                     calendarListener.onDateClicked(getDateAt(position), position);
                 }
 
-                int relativePosition = position;
-
-                //when scroll to leftDirection on weekly bar
-                //when scroll to leftDirection on weekly bar
-                if(position > calendarView.getPositionOfCenterItem()) {
-                    relativePosition = position + getShiftCellsForWeekDay(position);
-                    //when scroll to rightDirection on weekly bar
-                }else if(position < calendarView.getPositionOfCenterItem()) {
-                    // -6 as cell position start with 0
-                    relativePosition = position + getShiftCellsForWeekDay(position) - 6;
-                }
+                //end of its week when moving forward, start of its week when moving backward
+                int relativePosition = model.weekPageTarget(position, calendarView.getPositionOfCenterItem());
 
 
                 //update day adapter layout in weekbar
-                final int oldSelectedItem = lastSelectedPosition;
+                final int oldSelectedItem = model.getSelectedPosition();
 //                calendarView.setSmoothScrollSpeed(HorizontalLayoutManager.SPEED_NORMAL);
                 calendarView.scrollToPosition(relativePosition);
                 calendarView.post(new Runnable() {
@@ -432,7 +512,7 @@ public final class HorizontalCalendar {
                         final int newSelectedItem = position;
                         //refresh to update background colors
                         refreshItemsSelector(newSelectedItem, oldSelectedItem);
-                        lastSelectedPosition = position;
+                        setSelectedPosition(position);
                     }
                 });
             }
@@ -446,30 +526,18 @@ public final class HorizontalCalendar {
      */
     public void scrollToNextPreviousWeekdayPosition(final int position) {
         if (position != -1) {
-            if(lastSelectedPosition != -1){
-                String date = DateFormat.format("EEEE - d MMM yyyy", getDateAt(position)).toString();
-
-                Log.d("DateScroll: ", date);
+            if(model.getSelectedPosition() != -1){
                 //call onDateSelected listener to update view
                 if (calendarListener != null) {
-                    calendarListener.onDateSelected(getDateAt(position), position);
+                    selectionDispatcher.dispatch(dateEngine.dayAt(position));
                 }
 
-                int relativePosition = position;
-
-                //when scroll to leftDirection on weekly bar
-                if(position > calendarView.getPositionOfCenterItem()) {
-                    relativePosition = position + getShiftCellsForWeekDay(position);
-                    //when scroll to rightDirection on weekly bar
-                }else if(position < calendarView.getPositionOfCenterItem()) {
-                    // -6 as cell position start with 0
-                    relativePosition = position + getShiftCellsForWeekDay(position) - 6;
-                }
+                //end of its week when moving forward, start of its week when moving backward
+                int relativePosition = model.weekPageTarget(position, calendarView.getPositionOfCenterItem());
 
-                Log.d("CenterPosition", String.valueOf(calendarView.getPositionOfCenterItem()));
 
                 //update day adapter layout in weekbar
-                final int oldSelectedItem = lastSelectedPosition;
+                final int oldSelectedItem = model.getSelectedPosition();
                 calendarView.scrollToPosition(relativePosition);
                 calendarView.post(new Runnable() {
                     @Override
@@ -477,7 +545,7 @@ public final class HorizontalCalendar {
                         final int newSelectedItem = position;
                         //refresh to update background colors
                         refreshItemsSelector(newSelectedItem, oldSelectedItem);
-                        lastSelectedPosition = position;
+                        setSelectedPosition(position);
 
                     }
                 });
@@ -493,35 +561,18 @@ public final class HorizontalCalendar {
      */
     public void scrollToWeekPosition(final int position) {
         if (position != -1) {
-            if(lastSelectedPosition != -1){
-                String date = DateFormat.format("EEEE - d MMM yyyy", getDateAt(position)).toString();
-
+            if(model.getSelectedPosition() != -1){
 //                call onDateSelected listener to update view
                 if (calendarListener != null) {
-                    calendarListener.onDateSelected(getDateAt(position), position);
+                    selectionDispatcher.dispatch(dateEngine.dayAt(position));
                 }
 
                 int relativePosition = position;
-
-                    if (position >= calendarView.getPositionOfCenterItem()) {
-                        if (isDragRight){
-                            relativePosition = position + getShiftCellsForWeekDay(position)-6;
-                            Log.d("DateScroll: ", " right1");
-                        }else if(isDragLeft){
-                            relativePosition = position + getShiftCellsForWeekDay(position);
-
-                            Log.d("DateScroll: ", " left1");
-                        }
-                    }else if(position <= calendarView.getPositionOfCenterItem()){
-                        if (isDragRight){
-                            relativePosition = position + getShiftCellsForWeekDay(position)-6;
-                            Log.d("DateScroll: ", " right2");
-                        }else if(isDragLeft){
-                            relativePosition = position + getShiftCellsForWeekDay(position);
-
-                            Log.d("DateScroll: ", " left2");
-                        }
-                    }
+                if (isDragRight) {
+                    relativePosition = model.firstPositionOfWeek(position);
+                } else if (isDragLeft) {
+                    relativePosition = model.lastPositionOfWeek(position);
+                }
 
 //                    //when scroll to leftDirection on weekly bar
 //                    if(isDragRight) {
@@ -548,10 +599,9 @@ public final class HorizontalCalendar {
 //                    }
 
 
-                Log.d("CenterPosition", String.valueOf(calendarView.getPositionOfCenterItem()));
 
                 //update day adapter layout in weekbar
-                final int oldSelectedItem = lastSelectedPosition;
+                final int oldSelectedItem = model.getSelectedPosition();
                 calendarView.scrollToPosition(relativePosition);
                 calendarView.post(new Runnable() {
                     @Override
@@ -559,7 +609,7 @@ public final class HorizontalCalendar {
                         final int newSelectedItem = position;
                         //refresh to update background colors
                         refreshItemsSelector(newSelectedItem, oldSelectedItem);
-                        lastSelectedPosition = position;
+                        setSelectedPosition(position);
 
                     }
                 });
@@ -578,25 +628,17 @@ public final class HorizontalCalendar {
         if (position != -1) {
 
 
-            if(lastSelectedPosition != -1){
+            if(model.getSelectedPosition() != -1){
                 //call onDateSelected listener to update view
                 if (calendarListener != null) {
-                    calendarListener.onDateSelected(getDateAt(position), position);
+                    selectionDispatcher.dispatch(dateEngine.dayAt(position));
                 }
 
-                int relativePosition = position;
-
-                //when scroll to leftDirection on weekly bar
-                if(position > calendarView.getPositionOfCenterItem()) {
-                    relativePosition = position + getShiftCellsForWeekDay(position);
-                    //when scroll to rightDirection on weekly bar
-                }else if(position < calendarView.getPositionOfCenterItem()) {
-                    // -6 as cell position start with 0
-                    relativePosition = position + getShiftCellsForWeekDay(position) - 6;
-                }
+                //end of its week when moving forward, start of its week when moving backward
+                int relativePosition = model.weekPageTarget(position, calendarView.getPositionOfCenterItem());
 
                 //update day adapter layout in weekbar
-                final int oldSelectedItem = lastSelectedPosition;
+                final int oldSelectedItem = model.getSelectedPosition();
                 calendarView.scrollToPosition(relativePosition);
                 calendarView.post(new Runnable() {
                     @Override
@@ -604,7 +646,7 @@ public final class HorizontalCalendar {
                         final int newSelectedItem = position;
                         //refresh to update background colors
                         refreshItemsSelector(newSelectedItem, oldSelectedItem);
-                        lastSelectedPosition = position;
+                        setSelectedPosition(position);
                     }
                 });
             }
@@ -621,9 +663,17 @@ public final class HorizontalCalendar {
      * @param position The position to center the calendar to!
      */
     public void scrollToPositionWhenClicked(final int position) {
+        if ((position != -1) && (selectionModel != null)) {
+            // multiple and range selections stay in place, only the flipped cells are rebound
+            if (calendarListener != null) {
+                calendarListener.onDateClicked(getDateAt(position), position);
+            }
+            selectionModel.select(dateEngine.dayAt(position));
+            return;
+        }
         if (position != -1) {
 
-            if(lastSelectedPosition != -1){
+            if(model.getSelectedPosition() != -1){
 
                 if (calendarListener != null) {
                     calendarListener.onDateClicked(getDateAt(position), position);
@@ -631,7 +681,7 @@ public final class HorizontalCalendar {
                 }
 
                 //update the new and old date layout
-                final int oldSelectedItem = lastSelectedPosition;
+                final int oldSelectedItem = model.getSelectedPosition();
                 calendarView.scrollToPosition(position);
                 calendarView.post(new Runnable() {
                     @Override
@@ -639,14 +689,143 @@ public final class HorizontalCalendar {
                         final int newSelectedItem = position;
                         //refresh to update background colors
                         refreshItemsSelector(newSelectedItem, oldSelectedItem);
-                        lastSelectedPosition = position;
+                        setSelectedPosition(position);
                     }
                 });
             }
         }
     }
 
+    void saveState(HorizontalCalendarView.SavedState state) {
+        if (model.getSelectedPosition() != -1) {
+            state.selectedDay = model.getSelectedDay();
+        }
+
+        final HorizontalLayoutManager layoutManager = calendarView.getLayoutManager();
+        final int firstVisiblePosition = layoutManager.findFirstVisibleItemPosition();
+        final View firstVisibleView = layoutManager.findViewByPosition(firstVisiblePosition);
+        if (firstVisibleView != null) {
+            // shift cells too map to a day, outside of the range
+            state.firstVisibleDay = dateEngine.getStartDay() + firstVisiblePosition - dateEngine.getShiftCells();
+            // from the start edge, as scrollToPositionWithOffset reads it back
+            state.firstVisibleOffset = layoutManager.isLayoutFromRight()
+                    ? calendarView.getWidth() - calendarView.getPaddingRight() - layoutManager.getDecoratedRight(firstVisibleView)
+                    : layoutManager.getDecoratedLeft(firstVisibleView) - calendarView.getPaddingLeft();
+        }
+
+        if (selectionModel != null) {
+            state.selectionMode = selectionModel.getMode();
+            state.selection = selectionModel.saveState();
+        }
+    }
+
+    /**
+     * Select the saved date without notifying the listener and scroll to the saved position on the next layout,
+     * instead of the initial scroll to the default date.
+     */
+    void restoreState(HorizontalCalendarView.SavedState state) {
+        final int noDay = HorizontalCalendarView.SavedState.NO_DAY;
+        final int anchorDay = (state.selectedDay != noDay) ? state.selectedDay : state.firstVisibleDay;
+        if (anchorDay == noDay) {
+            return;
+        }
+        final int edgeDays = dateEngine.getDaysCount() / 4;
+        if (unbounded && ((anchorDay < dateEngine.getStartDay() + edgeDays) || (anchorDay > dateEngine.getEndDay() - edgeDays))) {
+            // the window was built around today, move it around the saved date before anything is laid out
+            slideWindow(anchorDay - (dateEngine.getStartDay() + (dateEngine.getDaysCount() / 2)), false);
+        }
+
+        final int oldSelectedItem = model.getSelectedPosition();
+        final int selectedPosition = (state.selectedDay != noDay) ? model.positionOf(state.selectedDay) : -1;
+        if (selectedPosition != -1) {
+            setSelectedPosition(selectedPosition);
+            if ((calendarView.getChildCount() > 0) && (selectedPosition != oldSelectedItem)) {
+                // already laid out, only when the calendar is built after the state was restored
+                refreshItemsSelector(selectedPosition, oldSelectedItem);
+            }
+        }
+
+        if (state.firstVisibleDay != noDay) {
+            final int firstVisiblePosition = state.firstVisibleDay - dateEngine.getStartDay() + dateEngine.getShiftCells();
+            if ((firstVisiblePosition >= 0) && (firstVisiblePosition < dateEngine.getItemCount())) {
+                calendarView.getLayoutManager().scrollToPositionWithOffset(firstVisiblePosition, state.firstVisibleOffset);
+                // the saved position is restored, the initial scroll to the selected date is not needed
+                restored = true;
+            }
+        }
+
+        if ((selectionModel != null) && (state.selection != null) && (state.selectionMode == selectionModel.getMode())) {
+            selectionModel.restoreState(state.selection);
+        }
+    }
+
+    /**
+     * Cells share the width of the calendar, recomputed when the view is resized (split screen, rotation, a pane
+     * resized). Holders are updated in place with a payload rebind, nothing is recreated nor inflated.
+     *
+     * @param contentWidth width of the calendar view without its padding
+     */
+    void updateCellWidth(int contentWidth) {
+        final int cellWidth = contentWidth / numberOfDatesOnScreen;
+        if ((cellWidth <= 0) || (cellWidth == mCalendarAdapter.getCellWidth())) {
+            return;
+        }
+
+        mCalendarAdapter.setCellWidth(cellWidth);
+        calendarView.getLayoutManager().setFixedCellWidth(cellWidth);
+        if (mCalendarAdapter.getItemCount() > 0) {
+            // also marks the detached cached cells, they are rebound before being shown again
+            mCalendarAdapter.notifyItemRangeChanged(0, mCalendarAdapter.getItemCount(), "UPDATE_SELECTOR");
+        }
+    }
+
+    /**
+     * Move the selection to the same day of the week in this page, as soon as the page is known.
+     */
+    private void selectInWeekPage(int pageStart) {
+        final int oldSelectedItem = model.getSelectedPosition();
+        if ((oldSelectedItem == -1) || (selectionModel != null)) {
+            return;
+        }
+
+        int position = pageStart + (oldSelectedItem - model.firstPositionOfWeek(oldSelectedItem));
+        // shift cells are never selected
+        position = Math.max(model.getShiftCells(), Math.min(model.getShiftCells() + dateEngine.getDaysCount() - 1, position));
+        if (position == oldSelectedItem) {
+            return;
+        }
+
+        setSelectedPosition(position);
+        refreshItemsSelector(position, oldSelectedItem);
+        if (calendarListener != null) {
+            selectionDispatcher.dispatch(dateEngine.dayAt(position));
+        }
+    }
+
+    private void setSelectedPosition(int position) {
+        model.setSelectedPosition(position);
+        final CalendarTracer tracer = CalendarTrace.tracer();
+        if (tracer != CalendarTrace.NO_OP) {
+            tracer.onSelection(position, dateEngine.dayAt(position));
+        }
+    }
+
+    /**
+     * Two positions overload, called on every selection change without allocating a varargs array
+     */
+    void refreshItemsSelector(int position1, int position2) {
+        if (selectionDecoration != null) {
+            // the first position is the new selection, the cells only update their text colors
+            selectionDecoration.moveTo(position1);
+        }
+        mCalendarAdapter.notifyItemChanged(position1, "UPDATE_SELECTOR");
+        mCalendarAdapter.notifyItemChanged(position2, "UPDATE_SELECTOR");
+    }
+
     void refreshItemsSelector(int position1, int... positions) {
+        if (selectionDecoration != null) {
+            selectionDecoration.moveTo(position1);
+        }
         mCalendarAdapter.notifyItemChanged(position1, "UPDATE_SELECTOR");
         if ((positions != null) && (positions.length > 0)) {
             for (int pos : positions) {
@@ -659,6 +838,42 @@ public final class HorizontalCalendar {
         return mCalendarAdapter.isDisabled(position);
     }
 
+    /**
+     * Test the disable predicate again for the dates of this range and restyle them.
+     * Call it when the predicate answer changed for some dates, with a range as small as possible.
+     * Without an index (see {@link Builder#indexDisabledDates()}) all the dates of the range are restyled.
+     *
+     * @param range the dates to refresh
+     */
+    public void invalidateDisabledDates(DateRange range) {
+        if (disabledDatesIndex != null) {
+            disabledDatesIndex.invalidate(range);
+        }
+        notifyDaysChanged(range.getStartDay(), range.getEndDay());
+    }
+
+    /**
+     * Restyle the cells of the days between fromDay and toDay (included) which are in range.
+     */
+    private void notifyDaysChanged(int fromDay, int toDay) {
+        final int from = Math.max(fromDay, dateEngine.getStartDay());
+        final int to = Math.min(toDay, dateEngine.getEndDay());
+        if (from <= to) {
+            mCalendarAdapter.notifyItemRangeChanged(dateEngine.positionOf(from), to - from + 1, "UPDATE_SELECTOR");
+        }
+    }
+
+    private void buildDisabledDatesIndex() {
+        disabledDatesIndex.build(dateEngine.getStartDay(), dateEngine.getEndDay(), new Runnable() {
+            @Override
+            public void run() {
+                if (mCalendarAdapter.getItemCount() > 0) {
+                    mCalendarAdapter.notifyItemRangeChanged(0, mCalendarAdapter.getItemCount(), "UPDATE_SELECTOR");
+                }
+            }
+        });
+    }
+
     public void refresh(){
         mCalendarAdapter.notifyDataSetChanged();
     }
@@ -687,11 +902,19 @@ public final class HorizontalCalendar {
         return mCalendarAdapter.getItem(calendarView.getPositionOfCenterItem());
     }
 
+    /**
+     * @return the last selected day, use {@link CalendarDay#toCalendar(ZoneDays)} with {@link #getZoneDays()}
+     * for its {@link Calendar}
+     */
+    public CalendarDay getSelectedDay() {
+        return mCalendarAdapter.getDay(model.getSelectedPosition());
+    }
+
     /**
      * @return position of selected date in Horizontal Calendar
      */
     public int getSelectedDatePosition() {
-        return lastSelectedPosition;
+        return model.getSelectedPosition();
 //        return calendarView.getPositionOfCenterItem();
     }
 
@@ -704,6 +927,16 @@ public final class HorizontalCalendar {
         return mCalendarAdapter.getItem(position);
     }
 
+    /**
+     * @param position The position of date
+     * @return the day on this index, use {@link CalendarDay#toCalendar(ZoneDays)} with {@link #getZoneDays()}
+     * for its {@link Calendar}
+     * @throws IndexOutOfBoundsException if position is out of the calendar range
+     */
+    public CalendarDay getDayAt(int position) throws IndexOutOfBoundsException {
+        return mCalendarAdapter.getDay(position);
+    }
+
     /**
      * @param date The date to search for
      * @return true if the calendar contains this date or false otherwise
@@ -720,14 +953,194 @@ public final class HorizontalCalendar {
         return calendarView.getContext();
     }
 
+    public DateEngine getDateEngine() {
+        return dateEngine;
+    }
+
+    /**
+     * @return true if the selection is drawn over the cells, see {@link Builder#selectionDecoration()}
+     */
+    public boolean isSelectionDecorated() {
+        return selectionDecoration != null;
+    }
+
+    /**
+     * @return selected days, or null if the calendar was not built with
+     * {@link Builder#selectionMode(int)} set to multiple or range selection
+     */
+    public SelectionModel getSelectionModel() {
+        return selectionModel;
+    }
+
+    /**
+     * @return range, today, selection and week paging math of this calendar
+     */
+    public CalendarModel getModel() {
+        return model;
+    }
+
+    /**
+     * Set the range of dates, an unbounded calendar becomes bounded to this range.
+     * Only the added and removed dates are notified to the adapter, the selected date and
+     * the visible cells stay where they are. No need to call {@link #refresh()} after it.
+     */
     public void setRange(Calendar startDate, Calendar endDate){
+        this.unbounded = false;
         this.startDate = startDate;
         this.endDate = endDate;
-       if (mCalendarAdapter instanceof DaysAdapter){
-           ((DaysAdapter) mCalendarAdapter).update(startDate, endDate, false);
-       }
+
+        final int oldStartDay = dateEngine.getStartDay();
+        final int oldEndDay = dateEngine.getEndDay();
+        final int oldItemCount = dateEngine.getItemCount();
+        final int oldSelectedDay = (model.getSelectedPosition() != -1) ? model.getSelectedDay() : 0;
+        final int newStartDay = CalendarDay.epochDayOf(startDate);
+        final int newEndDay = CalendarDay.epochDayOf(endDate);
+        if ((newStartDay == oldStartDay) && (newEndDay == oldEndDay)) {
+            return;
+        }
+
+        model.setRange(newStartDay, newEndDay);
+        positionOfToday = model.getTodayPosition();
+
+        if (mCalendarAdapter == null) {
+            return;
+        }
+        if ((newStartDay > oldEndDay) || (newEndDay < oldStartDay)) {
+            // no date in common, every cell changes anyway
+            mCalendarAdapter.notifyDataSetChanged();
+        } else {
+            notifyRangeChanged(oldStartDay, oldEndDay, oldItemCount, newStartDay, newEndDay);
+            if ((model.getSelectedPosition() != -1) && (model.getSelectedDay() != oldSelectedDay)) {
+                // the selected date was removed, the closest date left is selected instead
+                mCalendarAdapter.notifyItemChanged(model.getSelectedPosition(), "UPDATE_SELECTOR");
+            }
+        }
+
+        if (disabledDatesIndex != null) {
+            buildDisabledDatesIndex();
+        }
     }
 
+    /**
+     * Notify the adapter of the dates added or removed on both ends of an overlapping range.
+     */
+    private void notifyRangeChanged(int oldStartDay, int oldEndDay, int oldItemCount, int newStartDay, int newEndDay) {
+        final int shiftCells = dateEngine.getShiftCells();
+
+        // head: dates before the first common date, they start right after the shift cells
+        final int headDelta = oldStartDay - newStartDay;
+        if (headDelta > 0) {
+            mCalendarAdapter.notifyItemRangeInserted(shiftCells, headDelta);
+        } else if (headDelta < 0) {
+            mCalendarAdapter.notifyItemRangeRemoved(shiftCells, -headDelta);
+        }
+
+        // tail: dates after the last common date
+        final int tailPosition = shiftCells + (Math.min(oldEndDay, newEndDay) - newStartDay) + 1;
+        final int tailDelta = newEndDay - oldEndDay;
+        if (tailDelta > 0) {
+            mCalendarAdapter.notifyItemRangeInserted(tailPosition, tailDelta);
+        } else if (tailDelta < 0) {
+            mCalendarAdapter.notifyItemRangeRemoved(tailPosition, -tailDelta);
+        }
+
+        // shift cells kept their holders but now show other (out of range) dates
+        if (shiftCells > 0) {
+            if (headDelta != 0) {
+                mCalendarAdapter.notifyItemRangeChanged(0, shiftCells);
+            }
+            if (tailDelta != 0) {
+                final int newItemCount = oldItemCount + headDelta + tailDelta;
+                mCalendarAdapter.notifyItemRangeChanged(newItemCount - shiftCells, shiftCells);
+            }
+        }
+    }
+
+    /**
+     * @return true if the calendar was built with {@link Builder#unboundedRange()}
+     */
+    public boolean isUnbounded() {
+        return unbounded;
+    }
+
+    /**
+     * Slide the window of an unbounded calendar back around its center item when it got close to an edge.
+     */
+    private void slideWindowIfNeeded() {
+        final int center = calendarView.getPositionOfCenterItem();
+        final int itemCount = dateEngine.getItemCount();
+        final int edge = itemCount / 4;
+        if ((center != -1) && ((center < edge) || (center > itemCount - edge))) {
+            slideWindow(center - (itemCount / 2), true);
+        }
+    }
+
+    /**
+     * Move the range of an unbounded calendar by some days, the adapter keeps the same item count.
+     *
+     * @param deltaDays        days to move the range by, positive to move forward
+     * @param keepVisibleCells true to remove items on one side and insert them on the other side,
+     *                         so visible cells keep their holders and their place on screen
+     */
+    private void slideWindow(int deltaDays, boolean keepVisibleCells) {
+        if (deltaDays == 0) {
+            return;
+        }
+        final int itemCount = dateEngine.getItemCount();
+        final boolean moveCells = keepVisibleCells && (Math.abs(deltaDays) < itemCount);
+        model.slideRange(deltaDays, moveCells);
+        startDate = zoneDays.toCalendar(dateEngine.getStartDay());
+        endDate = zoneDays.toCalendar(dateEngine.getEndDay());
+        positionOfToday = model.getTodayPosition();
+
+        if (!moveCells) {
+            mCalendarAdapter.notifyDataSetChanged();
+        } else {
+            if (deltaDays > 0) {
+                mCalendarAdapter.notifyItemRangeRemoved(0, deltaDays);
+                mCalendarAdapter.notifyItemRangeInserted(itemCount - deltaDays, deltaDays);
+            } else {
+                mCalendarAdapter.notifyItemRangeRemoved(itemCount + deltaDays, -deltaDays);
+                mCalendarAdapter.notifyItemRangeInserted(0, -deltaDays);
+            }
+            // shift cells on both ends moved in or out of the range
+            final int shiftCells = dateEngine.getShiftCells();
+            if (shiftCells > 0) {
+                mCalendarAdapter.notifyItemRangeChanged(0, shiftCells * 2, "UPDATE_SELECTOR");
+                mCalendarAdapter.notifyItemRangeChanged(itemCount - (shiftCells * 2), shiftCells * 2, "UPDATE_SELECTOR");
+            }
+        }
+
+        if ((disabledDatesIndex != null) && !slideDisabledDatesIndex(deltaDays)) {
+            buildDisabledDatesIndex();
+        }
+    }
+
+    /**
+     * Keep the indexed days still in the window, only the days entering it are tested and then rebound.
+     *
+     * @return false if the index must be built again
+     */
+    private boolean slideDisabledDatesIndex(final int deltaDays) {
+        return disabledDatesIndex.slide(deltaDays, new Runnable() {
+            @Override
+            public void run() {
+                final int itemCount = mCalendarAdapter.getItemCount();
+                final int count = Math.min(Math.abs(deltaDays), itemCount);
+                if (count > 0) {
+                    mCalendarAdapter.notifyItemRangeChanged((deltaDays > 0) ? itemCount - count : 0, count, "UPDATE_SELECTOR");
+                }
+            }
+        });
+    }
+
+    private final Runnable windowSlider = new Runnable() {
+        @Override
+        public void run() {
+            slideWindowIfNeeded();
+        }
+    };
+
     public CalendarItemStyle getDefaultStyle() {
         return defaultStyle;
     }
@@ -740,6 +1153,17 @@ public final class HorizontalCalendar {
         return todayItemStyle;
     }
 
+    /**
+     * @return day starts of the time zone of this calendar, see {@link Builder#timeZone(TimeZone)}
+     */
+    public ZoneDays getZoneDays() {
+        return zoneDays;
+    }
+
+    public TimeZone getTimeZone() {
+        return zoneDays.getTimeZone();
+    }
+
     public HorizontalCalendarConfig getConfig() {
         return config;
     }
@@ -749,21 +1173,30 @@ public final class HorizontalCalendar {
     }
 
     public int getShiftCellsCenter() {
-        return numberOfDatesOnScreen / 2;
+        return model.getShiftCells();
     }
 
     public int getShiftCellsTodayWeekDay() {
-        return getWeekDayNumber(weekDay);
+        return model.shiftCellsTodayWeekDay();
     }
 
-
+    /**
+     * @return number of cells between the date at this position and the last day of its week
+     */
     public int getShiftCellsForWeekDay(int position) {
-        SimpleDateFormat dayFormat = new SimpleDateFormat("EEEE", Locale.getDefault());
-        String positionWeekDay = dayFormat.format(getDateAt(position).getTime());
-        return getWeekDayNumber(positionWeekDay);
+        return model.shiftCellsForWeekDay(position);
+    }
+
+    public int getFirstDayOfWeek() {
+        return model.getWeekShiftTable().getFirstDayOfWeek();
     }
 
-    //return the int value of WeekDay, count starts from rightDirection
+    /**
+     * return the int value of WeekDay, count starts from rightDirection
+     *
+     * @deprecated only matches English day names, use {@link #getShiftCellsForWeekDay(int)} instead
+     */
+    @Deprecated
     public int getWeekDayNumber(String weekday){
         int shift = 0;
         switch(weekday){
@@ -797,40 +1230,19 @@ public final class HorizontalCalendar {
      * @return position of date in Calendar, or -1 if date does not exist
      */
     public int positionOfDate(Calendar date) {
-        if (date.before(startDate) || date.after(endDate)) {
-            return -1;
-        }
-
-        int position;
-        if (Utils.isSameDate(date, startDate)) {
-            position = 0;
-        } else {
-            position = Utils.daysBetween(startDate, date);
-        }
-
-        final int shiftCells = getShiftCellsCenter();
-        return position + shiftCells;
+        return model.positionOf(CalendarDay.epochDayOf(date));
     }
 
     /**
      * @return position of date in Calendar, or -1 if date does not exist
      */
     public int positionOfTodayDateNoshift(Calendar date) {
-        if (date.before(startDate) || date.after(endDate)) {
+        final int position = dateEngine.indexOf(CalendarDay.epochDayOf(date));
+        if (position == -1) {
             return -1;
         }
 
-        int position;
-        if (Utils.isSameDate(date, startDate)) {
-            position = 0;
-        } else {
-
-            position = Utils.daysBetween(startDate, date);
-            Log.d("positionOfDate","" + String.valueOf(position));
-        }
-
-        final int shiftCells = getShiftCellsTodayWeekDay();
-        return position + shiftCells;
+        return position + model.shiftCellsTodayWeekDay();
     }
 
 
@@ -838,21 +1250,32 @@ public final class HorizontalCalendar {
      * @return position of date in Calendar, or -1 if date does not exist
      */
     public int positionOfDateNoShift(Calendar date) {
-        if (date.before(startDate) || date.after(endDate)) {
-            return -1;
-        }
+        return model.positionOfDayNoShift(CalendarDay.epochDayOf(date));
+    }
 
-        int position;
-        if (Utils.isSameDate(date, startDate)) {
-            position = 0;
-        } else {
+    /**
+     * Months are those of the calendar system of the middle label, see {@link ConfigBuilder#calendarSystemMiddleText}.
+     *
+     * @return position of the first day of the month of the date at this position, may be out of the range
+     */
+    public int getMonthStartPosition(int position) {
+        final int epochDay = dateEngine.dayAt(position);
+        return position - (epochDay - monthDates().monthStartOf(epochDay));
+    }
 
-            position = Utils.daysBetween(startDate, date);
-            Log.d("positionOfDate","" + String.valueOf(position));
-        }
+    /**
+     * @return true if the date at this position starts a month of the calendar system of the middle label
+     */
+    public boolean isFirstDayOfMonth(int position) {
+        return monthDates().isFirstDayOfMonth(dateEngine.dayAt(position));
+    }
 
-        final int shiftCells = getShiftCellsForWeekDay(position);
-        return position + shiftCells;
+    private CalendarSystemDates monthDates() {
+        if ((monthDates == null) || (monthDates.getCalendarSystem() != config.getCalendarSystemMiddleText())) {
+            monthDates = new CalendarSystemDates(config.getCalendarSystemMiddleText(),
+                    LabelCache.capacityFor(numberOfDatesOnScreen) * 2);
+        }
+        return monthDates;
     }
 
     public static class Builder {
@@ -868,8 +1291,29 @@ public final class HorizontalCalendar {
 
         // Number of Days to Show on Screen
         int numberOfDatesOnScreen;
+        // Slide a window over all dates instead of a fixed range
+        boolean unbounded;
+        // First day of the week pages
+        int firstDayOfWeek = Calendar.SUNDAY;
         // Specified which dates should be disabled
         private HorizontalCalendarPredicate disablePredicate;
+        private boolean indexDisabledDates;
+        private Executor indexExecutor;
+        // Draw each date as a single view
+        boolean flatDayCells;
+        // Settle swipes on week pages in one smooth scroll
+        boolean weekPaging;
+        // Draw the selection over the cells instead of restyling them
+        boolean selectionDecoration;
+        // When the listener is told about selected dates
+        SelectionDispatchPolicy selectionDispatchPolicy = SelectionDispatchPolicy.immediate();
+        // Multiple or range selection instead of the centered single selection
+        int selectionMode = SelectionModel.MODE_SINGLE;
+        int minRangeDays = 1;
+        int maxRangeDays = Integer.MAX_VALUE;
+        // Time zone of the dates, the default one if null
+        private TimeZone timeZone;
+        ZoneDays zoneDays;
 
         private ConfigBuilder configBuilder;
 
@@ -897,6 +1341,16 @@ public final class HorizontalCalendar {
             return this;
         }
 
+        /**
+         * Let the user scroll through any date instead of a fixed range.
+         * The calendar holds a window of {@link HorizontalCalendar#UNBOUNDED_WINDOW_DAYS} days around the
+         * selected date, moved silently when the user gets close to one of its edges.
+         */
+        public Builder unboundedRange() {
+            this.unbounded = true;
+            return this;
+        }
+
         public Builder datesNumberOnScreen(int numberOfItemsOnScreen) {
             this.numberOfDatesOnScreen = numberOfItemsOnScreen;
             return this;
@@ -907,6 +1361,15 @@ public final class HorizontalCalendar {
             return this;
         }
 
+        /**
+         * @param firstDayOfWeek first day of each week page, one of {@link Calendar#SUNDAY}
+         *                       to {@link Calendar#SATURDAY} (default to Sunday)
+         */
+        public Builder firstDayOfWeek(int firstDayOfWeek) {
+            this.firstDayOfWeek = firstDayOfWeek;
+            return this;
+        }
+
         public Builder todayDate(Calendar date) {
            todayDate = date;
             return this;
@@ -917,6 +1380,95 @@ public final class HorizontalCalendar {
             return this;
         }
 
+        /**
+         * Test the disable predicate once for every date of the range and keep the results,
+         * instead of testing it each time a date is shown. The index is built on the calling thread.
+         * Use {@link HorizontalCalendar#invalidateDisabledDates(DateRange)} when results change.
+         */
+        public Builder indexDisabledDates() {
+            return indexDisabledDates(null);
+        }
+
+        /**
+         * Same as {@link #indexDisabledDates()}, but the index is built with this executor.
+         * The predicate must then be thread safe, it is tested directly until the index is ready.
+         *
+         * @param executor executor running the predicate, or null to build on the calling thread
+         */
+        public Builder indexDisabledDates(Executor executor) {
+            indexDisabledDates = true;
+            indexExecutor = executor;
+            return this;
+        }
+
+        /**
+         * Draw each date as a single {@link DayCellView} instead of a hierarchy of six views,
+         * cheaper to measure, lay out and draw. Styles and configuration apply the same way.
+         */
+        public Builder flatDayCells() {
+            this.flatDayCells = true;
+            return this;
+        }
+
+        /**
+         * Settle every swipe on the first day of a week in a single smooth scroll, the selected date moves
+         * to the same day of the new week as soon as the page is known. Best with 7 dates on screen.
+         */
+        public Builder weekPaging() {
+            this.weekPaging = true;
+            return this;
+        }
+
+        /**
+         * Draw the selector bar and the selected background over the calendar, sliding from date to date,
+         * instead of restyling the cells: a selection change only updates the text colors of two cells.
+         * Ignored with multiple or range selection.
+         */
+        public Builder selectionDecoration() {
+            this.selectionDecoration = true;
+            return this;
+        }
+
+        /**
+         * Time zone the dates are counted in, instead of the default time zone at build time.
+         * Today, the range and every date given to the listener and the predicates are of this zone.
+         */
+        public Builder timeZone(TimeZone zone) {
+            this.timeZone = zone;
+            return this;
+        }
+
+        /**
+         * @param policy when {@link HorizontalCalendarListener#onDateSelected} is called, immediately (default),
+         *               once per frame or debounced, see {@link SelectionDispatchPolicy}
+         */
+        public Builder selectionDispatchPolicy(SelectionDispatchPolicy policy) {
+            this.selectionDispatchPolicy = policy;
+            return this;
+        }
+
+        /**
+         * Let the user select several days by clicking them, see {@link HorizontalCalendar#getSelectionModel()}.
+         * Clicked dates are no longer centered, the selected style is applied to every selected date.
+         *
+         * @param selectionMode {@link SelectionModel#MODE_MULTIPLE} or {@link SelectionModel#MODE_RANGE},
+         *                      {@link SelectionModel#MODE_SINGLE} (default) keeps the centered single selection
+         */
+        public Builder selectionMode(int selectionMode) {
+            this.selectionMode = selectionMode;
+            return this;
+        }
+
+        /**
+         * @param minDays minimum number of days of a selected range, its first and last days included
+         * @param maxDays maximum number of days of a selected range
+         */
+        public Builder rangeLength(int minDays, int maxDays) {
+            this.minRangeDays = minDays;
+            this.maxRangeDays = maxDays;
+            return this;
+        }
+
         public ConfigBuilder configure() {
             if (configBuilder == null) {
                 configBuilder = new ConfigBuilder(this);
@@ -927,15 +1479,21 @@ public final class HorizontalCalendar {
 
         private void initDefaultValues() throws IllegalStateException {
             /* Defaults variables */
+            zoneDays = new ZoneDays((timeZone != null) ? timeZone : TimeZone.getDefault());
+            if (todayDate == null) {
+                todayDate = Calendar.getInstance(zoneDays.getTimeZone());
+            }
+            if (unbounded) {
+                final int anchorDay = CalendarDay.epochDayOf((defaultSelectedDate != null) ? defaultSelectedDate : todayDate);
+                startDate = zoneDays.toCalendar(anchorDay - (UNBOUNDED_WINDOW_DAYS / 2));
+                endDate = zoneDays.toCalendar(anchorDay + (UNBOUNDED_WINDOW_DAYS / 2));
+            }
             if ((startDate == null) || (endDate == null)) {
                 throw new IllegalStateException("HorizontalCalendar range was not specified, either startDate or endDate is null!");
             }
             if (numberOfDatesOnScreen <= 0) {
                 numberOfDatesOnScreen = 5;
             }
-            if (todayDate == null) {
-                todayDate = Calendar.getInstance();
-            }
         }
 
         /**
@@ -954,31 +1512,19 @@ public final class HorizontalCalendar {
             HorizontalCalendarConfig config = configBuilder.createConfig();
 
             HorizontalCalendar horizontalCalendar = new HorizontalCalendar(this, config, defaultStyle, selectedItemStyle,todayItemStyle);
-            horizontalCalendar.init(rootView, defaultSelectedDate, todayDate,disablePredicate);
+            horizontalCalendar.init(rootView, defaultSelectedDate, todayDate, disablePredicate, indexDisabledDates, indexExecutor,
+                    selectionDecoration);
             return horizontalCalendar;
         }
     }
 
-    private final HorizontalCalendarPredicate defaultDisablePredicate = new HorizontalCalendarPredicate() {
-
-        @Override
-        public boolean test(Calendar date) {
-            return date.before(startDate) || date.after(endDate);
-        }
-
-        @Override
-        public CalendarItemStyle style() {
-            return new CalendarItemStyle(Color.GRAY, null);
-        }
-    };
-
 //    //uncomment for listen to scroll event
     /**
      * Scroll listener on the current visible week
      */
     private class HorizontalCalendarScrollListener extends RecyclerView.OnScrollListener {
 
-        int lastSelectedItem = lastSelectedPosition;
+        int lastSelectedItem = model.getSelectedPosition();
         boolean rightDirection, leftDirection,drag;
         int firstVisibleItem, visibleItemCount, totalItemCount;
 
@@ -993,29 +1539,41 @@ public final class HorizontalCalendar {
         //update the date selected once the scrolling is ended
     @Override
     public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
+        final CalendarTracer tracer = CalendarTrace.tracer();
+        if (tracer != CalendarTrace.NO_OP) {
+            tracer.onScrollStateChanged(newState);
+        }
+        if (weekPaging) {
+            // WeekSnapHelper settles the scroll and moves the selection
+            if ((newState == RecyclerView.SCROLL_STATE_IDLE) && unbounded) {
+                post(windowSlider);
+            }
+            return;
+        }
         switch (newState) {
             case RecyclerView.SCROLL_STATE_IDLE:
                 if(swipe && rightDirection){
                     swipe = false;
-                    scrollToNextPreviousWeekdayPosition(lastSelectedPosition + 7);
+                    scrollToNextPreviousWeekdayPosition(model.getSelectedPosition() + 7);
                 }
                 else if (swipe && leftDirection){
                     swipe = false;
-                    scrollToNextPreviousWeekdayPosition(lastSelectedPosition - 7);
+                    scrollToNextPreviousWeekdayPosition(model.getSelectedPosition() - 7);
                 }else if(drag) {
                     drag = false;
-                    scrollToWeekPosition(lastSelectedPosition);
+                    scrollToWeekPosition(model.getSelectedPosition());
 //                    System.out.println("left" + leftDirection);
 //                    System.out.println("right" + rightDirection);
                 }
-                System.out.println("The RecyclerView is not scrolling");
+                if (unbounded) {
+                    // after the week snapping above
+                    post(windowSlider);
+                }
                 break;
             case RecyclerView.SCROLL_STATE_DRAGGING:
-                System.out.println("Scrolling now");
                 break;
             case RecyclerView.SCROLL_STATE_SETTLING:
 
-                System.out.println("Scroll Settling");
                 break;
 
         }
@@ -1030,32 +1588,34 @@ public final class HorizontalCalendar {
         public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
             //On Scroll, agenda is refresh to update background colors
 //            post(selectedItemRefresher);
-        Log.d("X: " ,String.valueOf(dx));
+            final CalendarTracer tracer = CalendarTrace.tracer();
+            if (tracer != CalendarTrace.NO_OP) {
+                tracer.onScrolled(dx, dy);
+            }
+            if (weekPaging) {
+                return;
+            }
             //variable swipe is set to true, hence execution happens only once
             if(!swipe && dx > 15){
                 swipe = true;
                 rightDirection = true;
                 leftDirection = false;
-                System.out.println("swipe right");
 //
             }else if(!swipe && dx < -15){
                 swipe = true;
                 rightDirection = false;
                 leftDirection = true;
-                System.out.println("swipe left");
 
             }
             else if(!drag && (dx > -15 && dx < 0)){
                 drag = true;
                 isDragRight = false;
                 isDragLeft = true;
-                System.out.println("drag left");
             }
             else if(!drag && (dx < 15 && dx > 0)){
             drag = true;
             isDragRight = true;
             isDragLeft = false;
-            System.out.println("drag right");
             }
             else{
 
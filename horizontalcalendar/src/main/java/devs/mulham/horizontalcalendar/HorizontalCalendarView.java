@@ -4,14 +4,18 @@ import android.content.Context;
 import android.content.res.TypedArray;
 import android.graphics.Color;
 import android.graphics.drawable.Drawable;
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.support.v4.view.AbsSavedState;
 import android.support.v7.widget.RecyclerView;
 import android.util.AttributeSet;
-import android.util.Log;
 import android.util.TypedValue;
 
 import devs.mulham.horizontalcalendar.adapter.HorizontalCalendarBaseAdapter;
 import devs.mulham.horizontalcalendar.model.CalendarItemStyle;
 import devs.mulham.horizontalcalendar.model.HorizontalCalendarConfig;
+import devs.mulham.horizontalcalendar.utils.CalendarTrace;
+import devs.mulham.horizontalcalendar.utils.CalendarTracer;
 
 /**
  * See {devs.mulham.horizontalcalendar.R.styleable#HorizontalCalendarView HorizontalCalendarView Attributes}
@@ -25,6 +29,9 @@ public class HorizontalCalendarView extends RecyclerView {
     private CalendarItemStyle selectedItemStyle;
     private HorizontalCalendarConfig config;
     private int shiftCells;
+    private HorizontalCalendar horizontalCalendar;
+    // restored before the calendar was built, applied when it is
+    private SavedState pendingState;
 
     private final float FLING_SCALE_DOWN_FACTOR = 0.5f;
 
@@ -96,6 +103,7 @@ public class HorizontalCalendarView extends RecyclerView {
     public boolean fling(int velocityX, int velocityY) {
 //        velocityX *= FLING_SCALE_DOWN_FACTOR; // (between 0 for no fling, and 1 for normal fling, or more for faster fling).
 
+        final int gestureVelocityX = velocityX;
         if(velocityX > 100){
             velocityX = 750;
         }else if (velocityX < -100)
@@ -103,7 +111,10 @@ public class HorizontalCalendarView extends RecyclerView {
         else
             velocityX = 0;
 
-        Log.d("FLING", String.valueOf(velocityX));
+        final CalendarTracer tracer = CalendarTrace.tracer();
+        if (tracer != CalendarTrace.NO_OP) {
+            tracer.onFling(gestureVelocityX, velocityX);
+        }
 
         return super.fling(velocityX, velocityY);
     }
@@ -118,6 +129,45 @@ public class HorizontalCalendarView extends RecyclerView {
 
     }
 
+    @Override
+    protected Parcelable onSaveInstanceState() {
+        final SavedState state = new SavedState(super.onSaveInstanceState());
+        if (horizontalCalendar != null) {
+            horizontalCalendar.saveState(state);
+        }
+        return state;
+    }
+
+    /**
+     * Restores the selection and the scroll position before the first layout, the calendar then shows up
+     * where it was left, without scrolling, rebinding or notifying its listener.
+     */
+    @Override
+    protected void onRestoreInstanceState(Parcelable state) {
+        if (!(state instanceof SavedState)) {
+            super.onRestoreInstanceState(state);
+            return;
+        }
+        final SavedState savedState = (SavedState) state;
+        super.onRestoreInstanceState(savedState.getSuperState());
+        if (horizontalCalendar != null) {
+            horizontalCalendar.restoreState(savedState);
+        } else {
+            pendingState = savedState;
+        }
+    }
+
+    /**
+     * Called by {@link #layout} before the cells are laid out, so they take their new width in the same pass.
+     */
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        if ((w != oldw) && (horizontalCalendar != null)) {
+            horizontalCalendar.updateCellWidth(w - getPaddingLeft() - getPaddingRight());
+        }
+    }
+
     public float getSmoothScrollSpeed() {
         return getLayoutManager().getSmoothScrollSpeed();
     }
@@ -157,6 +207,14 @@ public class HorizontalCalendarView extends RecyclerView {
         selectedItemStyle = null;
 
         this.shiftCells = horizontalCalendar.getNumberOfDatesOnScreen() / 2;
+        this.horizontalCalendar = horizontalCalendar;
+        if (pendingState != null) {
+            horizontalCalendar.restoreState(pendingState);
+            pendingState = null;
+        }
+        if (getWidth() > 0) {
+            horizontalCalendar.updateCellWidth(getWidth() - getPaddingLeft() - getPaddingRight());
+        }
 //        this.shiftCells = horizontalCalendar.getShiftCellsForWeekDay();
     }
 
@@ -176,4 +234,60 @@ public class HorizontalCalendarView extends RecyclerView {
             }
         }
     }
+
+    /**
+     * Selection and scroll position as epoch days, so they still apply if the range moved
+     * (an unbounded calendar rebuilt around another today).
+     */
+    static class SavedState extends AbsSavedState {
+
+        static final int NO_DAY = Integer.MIN_VALUE;
+
+        int selectedDay = NO_DAY;
+        int firstVisibleDay = NO_DAY;
+        // from the start padding edge to the start of the first visible cell, their right sides in a right to left layout
+        int firstVisibleOffset;
+        int selectionMode = -1;
+        int[] selection;
+
+        SavedState(Parcelable superState) {
+            super(superState);
+        }
+
+        SavedState(Parcel in, ClassLoader loader) {
+            super(in, loader);
+            selectedDay = in.readInt();
+            firstVisibleDay = in.readInt();
+            firstVisibleOffset = in.readInt();
+            selectionMode = in.readInt();
+            selection = in.createIntArray();
+        }
+
+        @Override
+        public void writeToParcel(Parcel dest, int flags) {
+            super.writeToParcel(dest, flags);
+            dest.writeInt(selectedDay);
+            dest.writeInt(firstVisibleDay);
+            dest.writeInt(firstVisibleOffset);
+            dest.writeInt(selectionMode);
+            dest.writeIntArray(selection);
+        }
+
+        public static final Creator<SavedState> CREATOR = new ClassLoaderCreator<SavedState>() {
+            @Override
+            public SavedState createFromParcel(Parcel in, ClassLoader loader) {
+                return new SavedState(in, loader);
+            }
+
+            @Override
+            public SavedState createFromParcel(Parcel in) {
+                return new SavedState(in, null);
+            }
+
+            @Override
+            public SavedState[] newArray(int size) {
+                return new SavedState[size];
+            }
+        };
+    }
 }
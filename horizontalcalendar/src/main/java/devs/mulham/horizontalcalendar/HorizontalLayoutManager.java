@@ -1,10 +1,16 @@
 package devs.mulham.horizontalcalendar;
 
 import android.content.Context;
+import android.graphics.Rect;
+import android.support.v4.view.ViewCompat;
 import android.support.v7.widget.LinearLayoutManager;
 import android.support.v7.widget.LinearSmoothScroller;
 import android.support.v7.widget.RecyclerView;
 import android.util.DisplayMetrics;
+import android.view.View;
+
+import devs.mulham.horizontalcalendar.model.CalendarModel;
+import devs.mulham.horizontalcalendar.model.WeekShiftTable;
 
 /**
  * @author Mulham-Raee
@@ -21,6 +27,17 @@ public class HorizontalLayoutManager extends LinearLayoutManager {
 
     float smoothScrollSpeed = SPEED_NORMAL;
 
+    // week pages start on the first day of a week, null when not paging
+    private CalendarModel weekPagingModel;
+
+    // width shared by every cell, 0 to measure them as any LinearLayoutManager
+    private int fixedCellWidth;
+    // height of the cells measured with the current width, 0 until the first one is measured
+    private int fixedCellHeight;
+    // height spec of the calendar fixedCellHeight was measured in
+    private int heightSpec;
+    private final Rect decorInsets = new Rect();
+
     HorizontalLayoutManager(Context context, boolean reverseLayout) {
         super(context, HORIZONTAL, reverseLayout);
     }
@@ -50,6 +67,219 @@ public class HorizontalLayoutManager extends LinearLayoutManager {
         startSmoothScroll(smoothScroller);
     }
 
+    /**
+     * Every cell has this width, cells are then measured with exact specs and positions map to offsets
+     * by a multiplication, instead of looking at each laid out cell.
+     *
+     * @param cellWidth width of every cell including its decorations, or 0 to measure cells one by one
+     */
+    void setFixedCellWidth(int cellWidth) {
+        if (cellWidth != fixedCellWidth) {
+            fixedCellWidth = cellWidth;
+            fixedCellHeight = 0;
+            requestLayout();
+        }
+    }
+
+    int getFixedCellWidth() {
+        return fixedCellWidth;
+    }
+
+    /**
+     * With a fixed cell width the height of the first cell is kept, the following ones get the same exact specs
+     * so a cell measured before and not changed since skips its measure pass.
+     */
+    @Override
+    public void measureChildWithMargins(View child, int widthUsed, int heightUsed) {
+        if (fixedCellWidth <= 0) {
+            super.measureChildWithMargins(child, widthUsed, heightUsed);
+            return;
+        }
+
+        final RecyclerView.LayoutParams lp = (RecyclerView.LayoutParams) child.getLayoutParams();
+        calculateItemDecorationsForChild(child, decorInsets);
+        final int horizontalInsets = lp.leftMargin + lp.rightMargin + decorInsets.left + decorInsets.right;
+        final int verticalInsets = lp.topMargin + lp.bottomMargin + decorInsets.top + decorInsets.bottom;
+        final int widthSpec = View.MeasureSpec.makeMeasureSpec(Math.max(fixedCellWidth - horizontalInsets, 0), View.MeasureSpec.EXACTLY);
+
+        if (fixedCellHeight <= 0) {
+            final int heightSpec = getChildMeasureSpec(getHeight(), getHeightMode(),
+                    getPaddingTop() + getPaddingBottom() + verticalInsets, lp.height, false);
+            child.measure(widthSpec, heightSpec);
+            fixedCellHeight = child.getMeasuredHeight();
+            return;
+        }
+        child.measure(widthSpec, View.MeasureSpec.makeMeasureSpec(fixedCellHeight, View.MeasureSpec.EXACTLY));
+    }
+
+    /**
+     * Called on every measure of the calendar, auto measure included. Cells may depend on the height
+     * of the calendar, theirs is measured again when its height spec changes, even if the width did not.
+     */
+    @Override
+    public void onMeasure(RecyclerView.Recycler recycler, RecyclerView.State state, int widthSpec, int heightSpec) {
+        if (heightSpec != this.heightSpec) {
+            this.heightSpec = heightSpec;
+            fixedCellHeight = 0;
+        }
+        super.onMeasure(recycler, state, widthSpec, heightSpec);
+    }
+
+    /**
+     * Texts or sizes may have changed, the height is measured again on the next layout.
+     */
+    @Override
+    public void onItemsChanged(RecyclerView recyclerView) {
+        fixedCellHeight = 0;
+    }
+
+    /**
+     * @return true if the first position is laid out on the right, in a right to left layout or a reversed one
+     */
+    boolean isLayoutFromRight() {
+        return (getLayoutDirection() == ViewCompat.LAYOUT_DIRECTION_RTL) != getReverseLayout();
+    }
+
+    /**
+     * O(1) with a fixed cell width: the first laid out cell, or the next one if it is cut by the start edge.
+     */
+    @Override
+    public int findFirstCompletelyVisibleItemPosition() {
+        if ((fixedCellWidth <= 0) || (getChildCount() == 0)) {
+            return super.findFirstCompletelyVisibleItemPosition();
+        }
+        // children are in the order of their left edges, the first position is the rightmost one when laid out from right
+        final boolean fromRight = isLayoutFromRight();
+        final View first = getChildAt(fromRight ? getChildCount() - 1 : 0);
+        if (((RecyclerView.LayoutParams) first.getLayoutParams()).isItemRemoved()) {
+            // still animating out, not in the layout order
+            return super.findFirstCompletelyVisibleItemPosition();
+        }
+        final int position = getPosition(first);
+        final boolean cut = fromRight
+                ? (getDecoratedRight(first) > (getWidth() - getPaddingRight()))
+                : (getDecoratedLeft(first) < getPaddingLeft());
+        if (!cut) {
+            return position;
+        }
+        return (position + 1 < getItemCount()) ? position + 1 : RecyclerView.NO_POSITION;
+    }
+
+    /**
+     * @return scroll offset of the content, in pixels from its left edge as for any {@link LinearLayoutManager}
+     */
+    @Override
+    public int computeHorizontalScrollOffset(RecyclerView.State state) {
+        if ((fixedCellWidth <= 0) || (getChildCount() == 0)) {
+            return super.computeHorizontalScrollOffset(state);
+        }
+        final View leftmost = getChildAt(0);
+        // cells on the left of the leftmost one, the last positions when laid out from right
+        final int cellsBefore = isLayoutFromRight() ? getItemCount() - 1 - getPosition(leftmost) : getPosition(leftmost);
+        return (cellsBefore * fixedCellWidth) - (getDecoratedLeft(leftmost) - getPaddingLeft());
+    }
+
+    @Override
+    public int computeHorizontalScrollRange(RecyclerView.State state) {
+        if (fixedCellWidth <= 0) {
+            return super.computeHorizontalScrollRange(state);
+        }
+        return getItemCount() * fixedCellWidth;
+    }
+
+    @Override
+    public int computeHorizontalScrollExtent(RecyclerView.State state) {
+        if (fixedCellWidth <= 0) {
+            return super.computeHorizontalScrollExtent(state);
+        }
+        return getWidth() - getPaddingLeft() - getPaddingRight();
+    }
+
+    /**
+     * Page by week: the first day of a week is aligned on the start of the calendar once a scroll settles,
+     * see {@link WeekSnapHelper}.
+     *
+     * @param model positions of the weeks, or null to stop paging
+     */
+    void setWeekPaging(CalendarModel model) {
+        this.weekPagingModel = model;
+    }
+
+    boolean isWeekPaging() {
+        return weekPagingModel != null;
+    }
+
+    /**
+     * @return position of the first day of the week page holding this position
+     */
+    int pageStartOf(int position) {
+        return weekPagingModel.firstPositionOfWeek(position);
+    }
+
+    /**
+     * @return start of the page under the start edge of the calendar, or -1 if nothing is laid out
+     */
+    int findCurrentPageStart() {
+        final int firstVisiblePosition = findFirstVisibleItemPosition();
+        return (firstVisiblePosition == RecyclerView.NO_POSITION) ? -1 : pageStartOf(firstVisiblePosition);
+    }
+
+    /**
+     * @return start of the page a scroll stopping now settles on: the page under the start edge,
+     * or the next one if more than half of it is scrolled out. -1 if nothing is laid out
+     */
+    int findNearestPageStart() {
+        final View firstView = getChildCount() > 0 ? findViewByPosition(findFirstVisibleItemPosition()) : null;
+        if (firstView == null) {
+            return -1;
+        }
+        final int position = getPosition(firstView);
+        // cells have a fixed width, the offset of the page start follows from the first visible cell
+        return nearestPageStart(pageStartOf(position), distanceToPageStart(firstView), cellWidthOf(firstView),
+                isLayoutFromRight());
+    }
+
+    /**
+     * @return distance to scroll so the start of the page holding this cell is aligned on the start edge,
+     * computed from the cell offset without the page start being laid out
+     */
+    int distanceToPageStart(View cell) {
+        final int position = getPosition(cell);
+        final boolean fromRight = isLayoutFromRight();
+        final int startEdge = fromRight ? getWidth() - getPaddingRight() : getPaddingLeft();
+        return distanceToPageStart(getDecoratedLeft(cell), position - pageStartOf(position), cellWidthOf(cell),
+                startEdge, fromRight);
+    }
+
+    /**
+     * @param cellLeft    left edge of a cell, decorations included
+     * @param cellsBefore number of cells between the page start and this cell
+     * @param startEdge   the left padding, or the right edge inside the padding when laid out from right
+     * @return distance to scroll by so the page start is aligned on the start edge
+     */
+    static int distanceToPageStart(int cellLeft, int cellsBefore, int cellWidth, int startEdge, boolean fromRight) {
+        if (fromRight) {
+            // the page start is on the right of the cell, its right edge goes to the start edge
+            return (cellLeft + ((cellsBefore + 1) * cellWidth)) - startEdge;
+        }
+        return cellLeft - (cellsBefore * cellWidth) - startEdge;
+    }
+
+    /**
+     * @param distance distance to the page start, from {@link #distanceToPageStart(View)}
+     * @return this page start, or the next one if more than half of the page is scrolled out of the start edge
+     */
+    static int nearestPageStart(int pageStart, int distance, int cellWidth, boolean fromRight) {
+        // positive when the page start is beyond the start edge
+        final int scrolledOut = fromRight ? distance : -distance;
+        final int pageWidth = cellWidth * WeekShiftTable.DAYS_IN_WEEK;
+        return (scrolledOut > (pageWidth / 2)) ? pageStart + WeekShiftTable.DAYS_IN_WEEK : pageStart;
+    }
+
+    private int cellWidthOf(View cell) {
+        return (fixedCellWidth > 0) ? fixedCellWidth : getDecoratedMeasuredWidth(cell);
+    }
+
     float getSmoothScrollSpeed() {
         return smoothScrollSpeed;
     }
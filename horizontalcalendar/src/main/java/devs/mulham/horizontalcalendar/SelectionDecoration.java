@@ -0,0 +1,154 @@
+package devs.mulham.horizontalcalendar;
+
+import android.animation.ValueAnimator;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.drawable.Drawable;
+import android.support.v7.widget.RecyclerView;
+import android.util.TypedValue;
+import android.view.View;
+import android.view.animation.DecelerateInterpolator;
+
+import devs.mulham.horizontalcalendar.model.HorizontalCalendarConfig;
+
+/**
+ * Draws the selected background and the selector bar of the selected date for the whole calendar,
+ * instead of each cell showing or hiding its own. A selection change slides them to the new date,
+ * the cells only switch their text colors to the ones of the selected style.
+ * <p>
+ * The slide is cancelled when the calendar view is detached from its window or the decoration is removed.
+ *
+ * @since v1.4.0
+ */
+final class SelectionDecoration extends RecyclerView.ItemDecoration
+        implements ValueAnimator.AnimatorUpdateListener, View.OnAttachStateChangeListener {
+
+    private static final float SELECTOR_HEIGHT_DP = 2f;
+    private static final long MOVE_DURATION_MILLIS = 150;
+
+    private final HorizontalCalendar horizontalCalendar;
+    private final Paint selectorPaint = new Paint();
+    private final int selectorHeight;
+    private final ValueAnimator animator = ValueAnimator.ofFloat(0f, 1f);
+
+    // drawn at fromPosition + (toPosition - fromPosition) * fraction, in cells
+    private int fromPosition = -1;
+    private int toPosition = -1;
+    private float fraction = 1f;
+
+    // bounds of the selected cell, set by setCellBounds
+    private int left;
+    private int top;
+    private int right;
+    private int bottom;
+
+    SelectionDecoration(HorizontalCalendar horizontalCalendar) {
+        this.horizontalCalendar = horizontalCalendar;
+        this.selectorHeight = Math.round(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, SELECTOR_HEIGHT_DP,
+                horizontalCalendar.getContext().getResources().getDisplayMetrics()));
+        animator.setDuration(MOVE_DURATION_MILLIS);
+        animator.setInterpolator(new DecelerateInterpolator());
+        animator.addUpdateListener(this);
+    }
+
+    void attachTo(RecyclerView recyclerView) {
+        recyclerView.addItemDecoration(this);
+        recyclerView.addOnAttachStateChangeListener(this);
+    }
+
+    void removeFrom(RecyclerView recyclerView) {
+        animator.cancel();
+        recyclerView.removeOnAttachStateChangeListener(this);
+        recyclerView.removeItemDecoration(this);
+    }
+
+    @Override
+    public void onViewAttachedToWindow(View v) {
+    }
+
+    /**
+     * A running animator is referenced by the animation handler of the thread, it would keep the calendar.
+     */
+    @Override
+    public void onViewDetachedFromWindow(View v) {
+        animator.cancel();
+    }
+
+    /**
+     * Slide to the newly selected position, from where it is drawn now.
+     */
+    void moveTo(int position) {
+        if (position == toPosition) {
+            return;
+        }
+        final boolean visible = (toPosition != -1) && (horizontalCalendar.getCalendarView().getChildCount() > 0);
+        fromPosition = visible ? Math.round(currentPosition()) : position;
+        toPosition = position;
+        animator.cancel();
+        if (visible && (fromPosition != toPosition)) {
+            fraction = 0f;
+            animator.start();
+        } else {
+            fraction = 1f;
+            horizontalCalendar.getCalendarView().invalidate();
+        }
+    }
+
+    @Override
+    public void onAnimationUpdate(ValueAnimator animation) {
+        fraction = (float) animation.getAnimatedValue();
+        horizontalCalendar.getCalendarView().invalidate();
+    }
+
+    private float currentPosition() {
+        return fromPosition + ((toPosition - fromPosition) * fraction);
+    }
+
+    @Override
+    public void onDraw(Canvas c, RecyclerView parent, RecyclerView.State state) {
+        if (!animator.isRunning()) {
+            // follows the positions moved by range changes
+            fromPosition = toPosition = horizontalCalendar.getSelectedDatePosition();
+            fraction = 1f;
+        }
+        final Drawable background = horizontalCalendar.getSelectedItemStyle().getBackground();
+        if ((background != null) && setCellBounds(parent)) {
+            background.setBounds(left, top, right, bottom);
+            background.draw(c);
+        }
+    }
+
+    @Override
+    public void onDrawOver(Canvas c, RecyclerView parent, RecyclerView.State state) {
+        final HorizontalCalendarConfig config = horizontalCalendar.getConfig();
+        if ((config.getSelectorColor() == null) || !setCellBounds(parent)) {
+            return;
+        }
+        selectorPaint.setColor(config.getSelectorColor());
+        c.drawRect(left, bottom - selectorHeight, right, bottom, selectorPaint);
+    }
+
+    /**
+     * Cells share one width, so the bounds follow from any laid out cell, even if the selected one is not.
+     *
+     * @return false if nothing is selected or the selected cell is out of the screen
+     */
+    private boolean setCellBounds(RecyclerView parent) {
+        if ((toPosition == -1) || (parent.getChildCount() == 0)) {
+            return false;
+        }
+        final HorizontalLayoutManager layoutManager = (HorizontalLayoutManager) parent.getLayoutManager();
+        final View reference = parent.getChildAt(0);
+        final int cellWidth = (layoutManager.getFixedCellWidth() > 0)
+                ? layoutManager.getFixedCellWidth() : layoutManager.getDecoratedMeasuredWidth(reference);
+        final float cells = currentPosition() - layoutManager.getPosition(reference);
+
+        // laid out from right, later positions are on the left
+        final int offset = Math.round(cells * cellWidth);
+        left = layoutManager.getDecoratedLeft(reference) + (layoutManager.isLayoutFromRight() ? -offset : offset);
+        right = left + cellWidth;
+        top = layoutManager.getDecoratedTop(reference);
+        bottom = top + reference.getHeight();
+        return (right > 0) && (left < parent.getWidth());
+    }
+}
@@ -0,0 +1,72 @@
+package devs.mulham.horizontalcalendar;
+
+import android.support.v4.view.ViewCompat;
+
+import devs.mulham.horizontalcalendar.utils.HorizontalCalendarListener;
+import devs.mulham.horizontalcalendar.utils.SelectionDispatchPolicy;
+
+/**
+ * Reports the selected dates to the calendar listener according to a {@link SelectionDispatchPolicy}.
+ * Dates are kept as epoch days, their position is looked up when reported since an unbounded window may slide meanwhile.
+ */
+final class SelectionDispatcher implements Runnable {
+
+    private static final int NO_DAY = Integer.MIN_VALUE;
+
+    private final HorizontalCalendar horizontalCalendar;
+    private final SelectionDispatchPolicy policy;
+
+    private int pendingDay = NO_DAY;
+    private int reportedDay = NO_DAY;
+    private boolean scheduled;
+
+    SelectionDispatcher(HorizontalCalendar horizontalCalendar, SelectionDispatchPolicy policy) {
+        this.horizontalCalendar = horizontalCalendar;
+        this.policy = policy;
+    }
+
+    void dispatch(int epochDay) {
+        pendingDay = epochDay;
+        if (policy.isImmediate()) {
+            report(true);
+            return;
+        }
+
+        final HorizontalCalendarView calendarView = horizontalCalendar.getCalendarView();
+        if (policy.getDelayMillis() == 0) {
+            if (!scheduled) {
+                scheduled = true;
+                ViewCompat.postOnAnimation(calendarView, this);
+            }
+        } else {
+            // restart the delay
+            calendarView.removeCallbacks(this);
+            scheduled = true;
+            calendarView.postDelayed(this, policy.getDelayMillis());
+        }
+    }
+
+    @Override
+    public void run() {
+        scheduled = false;
+        report(false);
+    }
+
+    /**
+     * @param always true to report the date even if it is the one reported last
+     */
+    private void report(boolean always) {
+        final int epochDay = pendingDay;
+        pendingDay = NO_DAY;
+        final HorizontalCalendarListener listener = horizontalCalendar.getCalendarListener();
+        if ((epochDay == NO_DAY) || (listener == null) || (!always && (epochDay == reportedDay))) {
+            return;
+        }
+
+        if ((reportedDay != NO_DAY) && (reportedDay != epochDay)) {
+            listener.onDateSelectionCancelled(horizontalCalendar.getZoneDays().toCalendar(reportedDay), horizontalCalendar.getModel().positionOf(reportedDay));
+        }
+        reportedDay = epochDay;
+        listener.onDateSelected(horizontalCalendar.getZoneDays().toCalendar(epochDay), horizontalCalendar.getModel().positionOf(epochDay));
+    }
+}
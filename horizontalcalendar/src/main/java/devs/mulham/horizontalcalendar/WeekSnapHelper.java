@@ -0,0 +1,84 @@
+package devs.mulham.horizontalcalendar;
+
+import android.support.v7.widget.RecyclerView;
+import android.support.v7.widget.SnapHelper;
+import android.view.View;
+
+import devs.mulham.horizontalcalendar.model.WeekShiftTable;
+
+/**
+ * Settles every drag and fling of a week paging {@link HorizontalLayoutManager} on the start of a week,
+ * in a single smooth scroll. The distance is computed from the offset of any visible cell,
+ * the page is reported to the listener as soon as it is known, before the scroll starts.
+ *
+ * @since v1.4.0
+ */
+final class WeekSnapHelper extends SnapHelper {
+
+    interface OnPageListener {
+        /**
+         * @param pageStart position of the first day of the page the calendar settles on,
+         *                  may be the page already shown
+         */
+        void onPageSelected(int pageStart);
+    }
+
+    private final OnPageListener listener;
+
+    WeekSnapHelper(OnPageListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public int[] calculateDistanceToFinalSnap(RecyclerView.LayoutManager layoutManager, View targetView) {
+        final int[] distance = new int[2];
+        if (layoutManager.canScrollHorizontally()) {
+            distance[0] = ((HorizontalLayoutManager) layoutManager).distanceToPageStart(targetView);
+        }
+        return distance;
+    }
+
+    /**
+     * Called when a drag ends without a fling.
+     */
+    @Override
+    public View findSnapView(RecyclerView.LayoutManager layoutManager) {
+        final HorizontalLayoutManager pagingManager = (HorizontalLayoutManager) layoutManager;
+        final int pageStart = pagingManager.findNearestPageStart();
+        if (pageStart == -1) {
+            return null;
+        }
+        listener.onPageSelected(pageStart);
+        return findViewOfPage(pagingManager, pageStart);
+    }
+
+    @Override
+    public int findTargetSnapPosition(RecyclerView.LayoutManager layoutManager, int velocityX, int velocityY) {
+        final HorizontalLayoutManager pagingManager = (HorizontalLayoutManager) layoutManager;
+        final int currentPageStart = pagingManager.findCurrentPageStart();
+        if ((currentPageStart == -1) || (velocityX == 0)) {
+            return RecyclerView.NO_POSITION;
+        }
+
+        // moving back settles on the page under the start edge, already partly shown,
+        // laid out from right a positive velocity moves back
+        final boolean forward = pagingManager.isLayoutFromRight() ? (velocityX < 0) : (velocityX > 0);
+        int pageStart = forward ? currentPageStart + WeekShiftTable.DAYS_IN_WEEK : currentPageStart;
+        pageStart = Math.max(0, Math.min(pageStart, layoutManager.getItemCount() - 1));
+        listener.onPageSelected(pageStart);
+        return pageStart;
+    }
+
+    /**
+     * @return a laid out cell of this page, its own start may be scrolled out
+     */
+    private static View findViewOfPage(HorizontalLayoutManager layoutManager, int pageStart) {
+        final int first = layoutManager.findFirstVisibleItemPosition();
+        final int last = layoutManager.findLastVisibleItemPosition();
+        final int position = Math.max(pageStart, first);
+        if ((position > last) || (position >= pageStart + WeekShiftTable.DAYS_IN_WEEK)) {
+            return null;
+        }
+        return layoutManager.findViewByPosition(position);
+    }
+}
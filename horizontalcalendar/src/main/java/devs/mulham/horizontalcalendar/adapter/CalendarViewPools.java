@@ -0,0 +1,234 @@
+package devs.mulham.horizontalcalendar.adapter;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.support.v7.widget.RecyclerView;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import devs.mulham.horizontalcalendar.R;
+import devs.mulham.horizontalcalendar.utils.Utils;
+
+/**
+ * Process wide {@link RecyclerView.RecycledViewPool}s, shared by the calendars showing the same item layout,
+ * so a calendar opening on another screen reuses cells instead of inflating its own.
+ * The cell width is set on every bind, calendars of different widths share the same cells.
+ * <p>
+ * Cells keep a reference to the {@link Context} they were inflated with, so a pool is only shared between
+ * calendars of the same activity, whatever context wraps it, and it is dropped when this activity is destroyed.
+ * All methods must be called on the main thread.
+ *
+ * @since v1.4.0
+ */
+public final class CalendarViewPools {
+
+    private static final int VIEW_TYPE = 0;
+    private static final int DEFAULT_MAX_RECYCLED_VIEWS = 5;
+
+    private static final Map<Integer, Entry> entries = new HashMap<>();
+    private static boolean releaseOnDestroyRegistered;
+
+    private CalendarViewPools() {
+    }
+
+    /**
+     * Inflate cells into the shared pool while the main thread is idle, one cell per idle pass,
+     * so the calendars built afterwards with the same settings do not inflate anything on their first frame.
+     *
+     * @param context               context of the calendar view, usually its activity
+     * @param numberOfDatesOnScreen same as {@code HorizontalCalendar.Builder.datesNumberOnScreen(int)},
+     *                              gives the width the cells are inflated with until their first bind
+     * @param flatDayCells          same as {@code HorizontalCalendar.Builder.flatDayCells()}
+     * @param count                 number of cells to keep ready in the pool
+     */
+    public static void prewarm(Context context, int numberOfDatesOnScreen, boolean flatDayCells, final int count) {
+        final int itemResId = flatDayCells ? R.layout.hc_item_calendar_flat : R.layout.hc_item_calendar;
+        final int cellWidth = Utils.calculateCellWidth(context, numberOfDatesOnScreen);
+        final Entry entry = entryFor(context, itemResId, count);
+
+        Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+            @Override
+            public boolean queueIdle() {
+                // stop if the pool was released or replaced meanwhile
+                if ((entries.get(entry.key) != entry) || (entry.pool.getRecycledViewCount(VIEW_TYPE) >= count)) {
+                    return false;
+                }
+                entry.pool.putRecycledView(entry.createViewHolder(cellWidth));
+                return entry.pool.getRecycledViewCount(VIEW_TYPE) < count;
+            }
+        });
+    }
+
+    /**
+     * Release all the pools, calendars already attached to one keep using it.
+     */
+    public static void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @param minCapacity cells the pool should be able to hold
+     */
+    static RecyclerView.RecycledViewPool obtain(Context context, int itemResId, int minCapacity) {
+        return entryFor(context, itemResId, minCapacity).pool;
+    }
+
+    private static Entry entryFor(Context context, int itemResId, int minCapacity) {
+        registerReleaseOnDestroy(context);
+
+        Entry entry = entries.get(itemResId);
+        if ((entry == null) || !sameActivity(entry.context.get(), context)) {
+            entry = new Entry(itemResId, context);
+            entries.put(itemResId, entry);
+        }
+        entry.ensureCapacity(minCapacity);
+        return entry;
+    }
+
+    private static void registerReleaseOnDestroy(Context context) {
+        if (releaseOnDestroyRegistered) {
+            return;
+        }
+        Context applicationContext = context.getApplicationContext();
+        if (applicationContext instanceof Application) {
+            ((Application) applicationContext).registerActivityLifecycleCallbacks(new ReleaseOnDestroy());
+            releaseOnDestroyRegistered = true;
+        }
+    }
+
+    /**
+     * Views may wrap the activity in a {@link android.view.ContextThemeWrapper} of their own, the activity is compared.
+     */
+    private static boolean sameActivity(Context poolContext, Context context) {
+        if (poolContext == context) {
+            return true;
+        }
+        final Activity activity = activityOf(context);
+        return (activity != null) && (activityOf(poolContext) == activity);
+    }
+
+    private static Activity activityOf(Context context) {
+        while (context instanceof ContextWrapper) {
+            if (context instanceof Activity) {
+                return (Activity) context;
+            }
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+        return null;
+    }
+
+    private static final class Entry {
+
+        final int key;
+        final WeakReference<Context> context;
+        final RecyclerView.RecycledViewPool pool = new RecyclerView.RecycledViewPool();
+        private final PrewarmAdapter adapter;
+        private ViewGroup parent;
+        private int capacity = DEFAULT_MAX_RECYCLED_VIEWS;
+
+        Entry(int itemResId, Context context) {
+            this.key = itemResId;
+            this.context = new WeakReference<>(context);
+            this.adapter = new PrewarmAdapter(itemResId);
+        }
+
+        void ensureCapacity(int minCapacity) {
+            if (minCapacity > capacity) {
+                capacity = minCapacity;
+                pool.setMaxRecycledViews(VIEW_TYPE, capacity);
+            }
+        }
+
+        RecyclerView.ViewHolder createViewHolder(int cellWidth) {
+            if (parent == null) {
+                // only used as the parent to inflate against
+                parent = new FrameLayout(context.get());
+            }
+            adapter.cellWidth = cellWidth;
+            return adapter.createViewHolder(parent, VIEW_TYPE);
+        }
+    }
+
+    /**
+     * Creates the cells exactly as {@link DaysAdapter} does, with the view type set by
+     * {@link RecyclerView.Adapter#createViewHolder(ViewGroup, int)} so the pool hands them out.
+     */
+    private static final class PrewarmAdapter extends RecyclerView.Adapter<DateViewHolder> {
+
+        private final int itemResId;
+        // until the first bind sets the width of the calendar
+        int cellWidth;
+
+        PrewarmAdapter(int itemResId) {
+            this.itemResId = itemResId;
+        }
+
+        @Override
+        public DateViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+            View itemView = LayoutInflater.from(parent.getContext()).inflate(itemResId, parent, false);
+            DateViewHolder viewHolder = DaysAdapter.newViewHolder(itemView, cellWidth);
+            HorizontalCalendarBaseAdapter.setItemListeners(viewHolder);
+            return viewHolder;
+        }
+
+        @Override
+        public void onBindViewHolder(DateViewHolder holder, int position) {
+            // never bound, no item, the cells are bound by the adapter of the calendar using the pool
+        }
+
+        @Override
+        public int getItemCount() {
+            return 0;
+        }
+    }
+
+    private static final class ReleaseOnDestroy implements Application.ActivityLifecycleCallbacks {
+
+        @Override
+        public void onActivityDestroyed(Activity activity) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Context context = iterator.next().context.get();
+                if ((context == null) || (activityOf(context) == activity)) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        @Override
+        public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+        }
+
+        @Override
+        public void onActivityStarted(Activity activity) {
+        }
+
+        @Override
+        public void onActivityResumed(Activity activity) {
+        }
+
+        @Override
+        public void onActivityPaused(Activity activity) {
+        }
+
+        @Override
+        public void onActivityStopped(Activity activity) {
+        }
+
+        @Override
+        public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+        }
+    }
+}
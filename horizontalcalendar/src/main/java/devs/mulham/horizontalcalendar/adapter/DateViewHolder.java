@@ -1,12 +1,21 @@
 package devs.mulham.horizontalcalendar.adapter;
 
+import android.graphics.drawable.Drawable;
+import android.os.Build;
 import android.support.v7.widget.RecyclerView;
+import android.util.TypedValue;
 import android.view.View;
 import android.widget.TextView;
 
+import devs.mulham.horizontalcalendar.DayCellView;
 import devs.mulham.horizontalcalendar.R;
 
 /**
+ * Holds the views of a date cell and the values last applied to them,
+ * so rebinding a cell only calls the setters of the values which changed.
+ * The cell is either the views of {devs.mulham.horizontalcalendar.R.layout#hc_item_calendar}
+ * or a single {@link DayCellView}.
+ *
  * @author Mulham-Raee
  * @since v1.0.0
  */
@@ -17,13 +26,187 @@ public class DateViewHolder extends RecyclerView.ViewHolder {
     TextView textBottom;
     View selectionView;
     View layoutContent;
+    final DayCellView dayCell;
+
+    // adapter of the calendar this cell is attached to
+    HorizontalCalendarBaseAdapter<?, ?> owner;
+
+    final BoundText boundTop;
+    final BoundText boundMiddle;
+    final BoundText boundBottom;
+
+    private int selectorColor;
+    private boolean hasSelectorColor;
+    // selector of the layout, before any color is applied
+    private final int defaultSelectorColor;
+    private final Drawable.ConstantState defaultSelector;
+    private int selectionVisibility = -1;
+    private Drawable contentBackground;
+    private boolean hasContentBackground;
+    private int cellWidth;
 
     DateViewHolder(View rootView) {
         super(rootView);
+        if (rootView instanceof DayCellView) {
+            dayCell = (DayCellView) rootView;
+            layoutContent = rootView;
+            boundTop = new BoundText(dayCell, DayCellView.LINE_TOP);
+            boundMiddle = new BoundText(dayCell, DayCellView.LINE_MIDDLE);
+            boundBottom = new BoundText(dayCell, DayCellView.LINE_BOTTOM);
+            defaultSelectorColor = dayCell.getSelectorColor();
+            defaultSelector = null;
+            return;
+        }
+
+        dayCell = null;
         textTop = rootView.findViewById(R.id.hc_text_top);
         textMiddle = rootView.findViewById(R.id.hc_text_middle);
         textBottom = rootView.findViewById(R.id.hc_text_bottom);
         layoutContent = rootView.findViewById(R.id.hc_layoutContent);
         selectionView = rootView.findViewById(R.id.hc_selector);
+        defaultSelectorColor = 0;
+        // setBackgroundColor() mutates the drawable, its original state stays as inflated
+        final Drawable selectorBackground = selectionView.getBackground();
+        defaultSelector = (selectorBackground != null) ? selectorBackground.getConstantState() : null;
+
+        boundTop = new BoundText(textTop);
+        boundMiddle = new BoundText(textMiddle);
+        boundBottom = new BoundText(textBottom);
+    }
+
+    void setCellWidth(int width) {
+        if (cellWidth != width) {
+            cellWidth = width;
+            layoutContent.setMinimumWidth(width);
+        }
+    }
+
+    void setSelectorColor(int color) {
+        if (!hasSelectorColor || (selectorColor != color)) {
+            hasSelectorColor = true;
+            selectorColor = color;
+            if (dayCell != null) {
+                dayCell.setSelectorColor(color);
+                return;
+            }
+            selectionView.setBackgroundColor(color);
+        }
+    }
+
+    /**
+     * Back to the selector of the layout, the cell may come from the pool of another calendar which colored it.
+     */
+    void clearSelectorColor() {
+        if (hasSelectorColor) {
+            hasSelectorColor = false;
+            if (dayCell != null) {
+                dayCell.setSelectorColor(defaultSelectorColor);
+                return;
+            }
+            setBackground(selectionView, (defaultSelector != null) ? defaultSelector.newDrawable(selectionView.getResources()) : null);
+        }
+    }
+
+    void setSelectionVisibility(int visibility) {
+        if (selectionVisibility != visibility) {
+            selectionVisibility = visibility;
+            if (dayCell != null) {
+                dayCell.setSelectorVisible(visibility == View.VISIBLE);
+                return;
+            }
+            selectionView.setVisibility(visibility);
+        }
+    }
+
+    void setContentBackground(Drawable background) {
+        if (!hasContentBackground || (contentBackground != background)) {
+            hasContentBackground = true;
+            contentBackground = background;
+            if (dayCell != null) {
+                dayCell.setContentBackground(background);
+            } else {
+                setBackground(layoutContent, background);
+            }
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void setBackground(View view, Drawable background) {
+        if (Build.VERSION.SDK_INT >= 16) {
+            view.setBackground(background);
+        } else {
+            view.setBackgroundDrawable(background);
+        }
+    }
+
+    /**
+     * A {@link TextView}, or a line of a {@link DayCellView}, with the text, size, color and visibility
+     * last applied to it. Labels come from a cache, so an unchanged text is the same instance and compared by reference.
+     */
+    static final class BoundText {
+
+        final TextView view;
+        private final DayCellView cell;
+        private final int line;
+        private CharSequence text;
+        private float textSize = -1;
+        private int textColor;
+        private boolean hasTextColor;
+        private int visibility = -1;
+
+        BoundText(TextView view) {
+            this.view = view;
+            this.cell = null;
+            this.line = -1;
+        }
+
+        BoundText(DayCellView cell, int line) {
+            this.view = null;
+            this.cell = cell;
+            this.line = line;
+        }
+
+        void bind(CharSequence text, float textSize) {
+            setVisibility(View.VISIBLE);
+            if (this.text != text) {
+                this.text = text;
+                if (cell != null) {
+                    cell.setText(line, text);
+                } else {
+                    view.setText(text);
+                }
+            }
+            if (this.textSize != textSize) {
+                this.textSize = textSize;
+                if (cell != null) {
+                    cell.setTextSize(line, textSize);
+                } else {
+                    view.setTextSize(TypedValue.COMPLEX_UNIT_SP, textSize);
+                }
+            }
+        }
+
+        void setTextColor(int color) {
+            if (!hasTextColor || (textColor != color)) {
+                hasTextColor = true;
+                textColor = color;
+                if (cell != null) {
+                    cell.setTextColor(line, color);
+                } else {
+                    view.setTextColor(color);
+                }
+            }
+        }
+
+        void setVisibility(int visibility) {
+            if (this.visibility != visibility) {
+                this.visibility = visibility;
+                if (cell != null) {
+                    cell.setLineVisible(line, visibility == View.VISIBLE);
+                } else {
+                    view.setVisibility(visibility);
+                }
+            }
+        }
     }
 }
@@ -1,8 +1,6 @@
 package devs.mulham.horizontalcalendar.adapter;
 
-import android.text.format.DateFormat;
-import android.util.Log;
-import android.util.TypedValue;
+import android.support.v7.widget.RecyclerView;
 import android.view.View;
 
 import java.util.Calendar;
@@ -11,9 +9,14 @@ import java.util.List;
 import devs.mulham.horizontalcalendar.HorizontalCalendar;
 import devs.mulham.horizontalcalendar.HorizontalCalendarView;
 import devs.mulham.horizontalcalendar.R;
+import devs.mulham.horizontalcalendar.model.CalendarDay;
+import devs.mulham.horizontalcalendar.model.CalendarSystem;
+import devs.mulham.horizontalcalendar.model.DateEngine;
 import devs.mulham.horizontalcalendar.model.HorizontalCalendarConfig;
+import devs.mulham.horizontalcalendar.utils.CalendarTrace;
+import devs.mulham.horizontalcalendar.utils.CalendarTracer;
 import devs.mulham.horizontalcalendar.utils.HorizontalCalendarPredicate;
-import devs.mulham.horizontalcalendar.utils.Utils;
+import devs.mulham.horizontalcalendar.utils.LabelCache;
 
 /**
  * custom adapter for {@link HorizontalCalendarView HorizontalCalendarView}
@@ -25,52 +28,81 @@ import devs.mulham.horizontalcalendar.utils.Utils;
  */
 public class DaysAdapter extends HorizontalCalendarBaseAdapter<DateViewHolder, Calendar> {
 
-    private Calendar startDate;
-    private int itemsCount;
+    private LabelCache topLabels;
+    private LabelCache middleLabels;
+    private LabelCache bottomLabels;
 
-    public DaysAdapter(HorizontalCalendar horizontalCalendar, Calendar startDate, Calendar endDate, HorizontalCalendarPredicate disablePredicate) {
-        super(R.layout.hc_item_calendar, horizontalCalendar, disablePredicate);
-        this.startDate = startDate;
-        itemsCount = calculateItemsCount(endDate);
+    public DaysAdapter(HorizontalCalendar horizontalCalendar, DateEngine dateEngine, HorizontalCalendarPredicate disablePredicate) {
+        this(horizontalCalendar, dateEngine, disablePredicate, false);
+    }
+
+    /**
+     * @param flatDayCells true to draw each date as a single {@link devs.mulham.horizontalcalendar.DayCellView}
+     */
+    public DaysAdapter(HorizontalCalendar horizontalCalendar, DateEngine dateEngine, HorizontalCalendarPredicate disablePredicate, boolean flatDayCells) {
+        super(flatDayCells ? R.layout.hc_item_calendar_flat : R.layout.hc_item_calendar, horizontalCalendar, dateEngine, disablePredicate);
     }
 
     @Override
     protected DateViewHolder createViewHolder(View itemView, int cellWidth) {
+        return newViewHolder(itemView, cellWidth);
+    }
+
+    static DateViewHolder newViewHolder(View itemView, int cellWidth) {
         final DateViewHolder holder = new DateViewHolder(itemView);
-        holder.layoutContent.setMinimumWidth(cellWidth);
+        holder.setCellWidth(cellWidth);
 
         return holder;
     }
 
+    /**
+     * Share the cells with the other calendars of this context showing the same layout,
+     * see {@link CalendarViewPools}.
+     */
+    @Override
+    public void onAttachedToRecyclerView(RecyclerView recyclerView) {
+        recyclerView.setRecycledViewPool(CalendarViewPools.obtain(recyclerView.getContext(), getItemResId(),
+                horizontalCalendar.getNumberOfDatesOnScreen() + 2));
+    }
+
     @Override
     public void onBindViewHolder(DateViewHolder holder, int position) {
-        Calendar day = getItem(position);
+        int epochDay = getEpochDay(position);
         HorizontalCalendarConfig config = horizontalCalendar.getConfig();
+        holder.setCellWidth(getCellWidth());
 
-        final Integer selectorColor = horizontalCalendar.getConfig().getSelectorColor();
+        // the holder skips the setters of unchanged values, a steady state bind allocates nothing
+        final Integer selectorColor = config.getSelectorColor();
         if (selectorColor != null) {
-            holder.selectionView.setBackgroundColor(selectorColor);
+            holder.setSelectorColor(selectorColor);
+        } else {
+            holder.clearSelectorColor();
         }
 
-        holder.textMiddle.setText(DateFormat.format(config.getFormatMiddleText(), day));
-        holder.textMiddle.setTextSize(TypedValue.COMPLEX_UNIT_SP, config.getSizeMiddleText());
+        middleLabels = labelCacheFor(middleLabels, config.getFormatMiddleText(), config.getCalendarSystemMiddleText());
+        holder.boundMiddle.bind(middleLabels.get(epochDay), config.getSizeMiddleText());
 
         if (config.isShowTopText()) {
-            holder.textTop.setText(DateFormat.format(config.getFormatTopText(), day));
-            holder.textTop.setTextSize(TypedValue.COMPLEX_UNIT_SP, config.getSizeTopText());
+            topLabels = labelCacheFor(topLabels, config.getFormatTopText(), config.getCalendarSystemTopText());
+            holder.boundTop.bind(topLabels.get(epochDay), config.getSizeTopText());
         } else {
-            holder.textTop.setVisibility(View.GONE);
+            holder.boundTop.setVisibility(View.GONE);
         }
 
         if (config.isShowBottomText()) {
-            holder.textBottom.setText(DateFormat.format(config.getFormatBottomText(), day));
-            holder.textBottom.setTextSize(TypedValue.COMPLEX_UNIT_SP, config.getSizeBottomText());
+            bottomLabels = labelCacheFor(bottomLabels, config.getFormatBottomText(), config.getCalendarSystemBottomText());
+            holder.boundBottom.bind(bottomLabels.get(epochDay), config.getSizeBottomText());
         } else {
-            holder.textBottom.setVisibility(View.GONE);
+            holder.boundBottom.setVisibility(View.GONE);
         }
 
-        applyStyle(holder, day, position);
+        applyStyle(holder, epochDay, position);
 
+        bindCount++;
+        final CalendarTracer tracer = CalendarTrace.tracer();
+        if (tracer != CalendarTrace.NO_OP) {
+            tracer.onBind(position, epochDay, false);
+        }
     }
 
     @Override
@@ -80,40 +112,64 @@ public class DaysAdapter extends HorizontalCalendarBaseAdapter<DateViewHolder, C
             return;
         }
 
-        Calendar date = getItem(position);
-        applyStyle(holder, date, position);
+        int epochDay = getEpochDay(position);
+        holder.setCellWidth(getCellWidth());
+        applyStyle(holder, epochDay, position);
+
+        bindCount++;
+        final CalendarTracer tracer = CalendarTrace.tracer();
+        if (tracer != CalendarTrace.NO_OP) {
+            tracer.onBind(position, epochDay, true);
+        }
     }
 
     @Override
     public int getItemCount() {
-        return itemsCount;
+        return dateEngine.getItemCount();
     }
 
     @Override
     public Calendar getItem(int position) throws IndexOutOfBoundsException {
-        if (position >= itemsCount) {
-            throw new IndexOutOfBoundsException();
-        }
+        return horizontalCalendar.getZoneDays().toCalendar(getEpochDay(position));
+    }
 
-        int daysDiff = position - horizontalCalendar.getShiftCellsCenter();
+    /**
+     * @return cache of the top labels, or null if no top label was bound yet
+     */
+    public LabelCache getTopLabelCache() {
+        return topLabels;
+    }
 
-        Calendar calendar = (Calendar) startDate.clone();
-        calendar.add(Calendar.DATE, daysDiff);
+    /**
+     * @return cache of the middle labels, or null if no middle label was bound yet
+     */
+    public LabelCache getMiddleLabelCache() {
+        return middleLabels;
+    }
 
-        return calendar;
+    /**
+     * @return cache of the bottom labels, or null if no bottom label was bound yet
+     */
+    public LabelCache getBottomLabelCache() {
+        return bottomLabels;
+    }
+
+    private LabelCache labelCacheFor(LabelCache cache, String format, CalendarSystem calendarSystem) {
+        if ((cache != null) && cache.getFormat().equals(format) && (cache.getCalendarSystem() == calendarSystem)) {
+            return cache;
+        }
+
+        int capacity = horizontalCalendar.getConfig().getLabelCacheSize();
+        if (capacity <= 0) {
+            capacity = LabelCache.capacityFor(horizontalCalendar.getNumberOfDatesOnScreen());
+        }
+        return new LabelCache(format, calendarSystem, capacity, horizontalCalendar.getZoneDays());
     }
 
     public void update(Calendar startDate, Calendar endDate, boolean notify){
-        this.startDate = startDate;
-        itemsCount = calculateItemsCount(endDate);
+        dateEngine.setRange(CalendarDay.epochDayOf(startDate), CalendarDay.epochDayOf(endDate));
         if (notify){
             notifyDataSetChanged();
         }
     }
-
-    private int calculateItemsCount(Calendar endDate) {
-        int days = Utils.daysBetween(startDate, endDate) + 1;
-        Log.d("calculateItemCount","" +String.valueOf(days));
-        return days + (horizontalCalendar.getShiftCellsCenter() * 2);
-    }
 }
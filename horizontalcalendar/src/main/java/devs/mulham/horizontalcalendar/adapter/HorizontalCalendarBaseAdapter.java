@@ -1,6 +1,6 @@
 package devs.mulham.horizontalcalendar.adapter;
 
-import android.os.Build;
+import android.graphics.Color;
 import android.support.v7.widget.RecyclerView;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -11,7 +11,11 @@ import java.util.Calendar;
 import devs.mulham.horizontalcalendar.HorizontalCalendar;
 import devs.mulham.horizontalcalendar.HorizontalCalendarView;
 import devs.mulham.horizontalcalendar.HorizontalLayoutManager;
+import devs.mulham.horizontalcalendar.model.CalendarDay;
 import devs.mulham.horizontalcalendar.model.CalendarItemStyle;
+import devs.mulham.horizontalcalendar.model.DateEngine;
+import devs.mulham.horizontalcalendar.model.SelectionModel;
+import devs.mulham.horizontalcalendar.utils.DisabledDatesIndex;
 import devs.mulham.horizontalcalendar.utils.HorizontalCalendarListener;
 import devs.mulham.horizontalcalendar.utils.HorizontalCalendarPredicate;
 import devs.mulham.horizontalcalendar.utils.Utils;
@@ -26,17 +30,31 @@ public abstract class HorizontalCalendarBaseAdapter<VH extends DateViewHolder, T
 
     private final int itemResId;
     final HorizontalCalendar horizontalCalendar;
+    final DateEngine dateEngine;
     private final HorizontalCalendarPredicate disablePredicate;
-    private final int cellWidth;
+    private DisabledDatesIndex disabledDatesIndex;
+    private int cellWidth;
 
     private CalendarItemStyle disabledItemStyle;
 
-    protected HorizontalCalendarBaseAdapter(int itemResId, final HorizontalCalendar horizontalCalendar, HorizontalCalendarPredicate disablePredicate) {
+    // cells created and bound since creation, full and style only binds
+    int createCount;
+    int bindCount;
+
+    // passed to the disable predicate, so testing a date does not allocate
+    private final Calendar predicateDate;
+
+    protected HorizontalCalendarBaseAdapter(int itemResId, final HorizontalCalendar horizontalCalendar, DateEngine dateEngine, HorizontalCalendarPredicate disablePredicate) {
         this.itemResId = itemResId;
         this.horizontalCalendar = horizontalCalendar;
+        this.dateEngine = dateEngine;
         this.disablePredicate = disablePredicate;
+        this.predicateDate = Calendar.getInstance(horizontalCalendar.getTimeZone());
         if (disablePredicate != null) {
             this.disabledItemStyle = disablePredicate.style();
+        } else {
+            // out of range dates are always disabled
+            this.disabledItemStyle = new CalendarItemStyle(Color.GRAY, null);
         }
 
         cellWidth = Utils.calculateCellWidth(horizontalCalendar.getContext(), horizontalCalendar.getNumberOfDatesOnScreen());
@@ -47,101 +65,225 @@ public abstract class HorizontalCalendarBaseAdapter<VH extends DateViewHolder, T
         View itemView = LayoutInflater.from(parent.getContext()).inflate(itemResId, parent, false);
 
         final VH viewHolder = createViewHolder(itemView, cellWidth);
-        viewHolder.itemView.setOnClickListener(new MyOnClickListener(viewHolder));
-        viewHolder.itemView.setOnLongClickListener(new MyOnLongClickListener(viewHolder));
+        setItemListeners(viewHolder);
+        createCount++;
 
         return viewHolder;
     }
 
+    /**
+     * Cells may come from a pool shared with other calendars,
+     * so the listeners act on the adapter the cell is currently attached to.
+     */
+    @Override
+    public void onViewAttachedToWindow(VH holder) {
+        holder.owner = this;
+    }
+
+    static void setItemListeners(DateViewHolder viewHolder) {
+        viewHolder.itemView.setOnClickListener(new MyOnClickListener(viewHolder));
+        viewHolder.itemView.setOnLongClickListener(new MyOnLongClickListener(viewHolder));
+    }
+
     protected abstract VH createViewHolder(View itemView, int cellWidth);
 
+    /**
+     * @return number of cells inflated by this adapter, the cells taken from a shared pool are not counted
+     */
+    public int getCreateCount() {
+        return createCount;
+    }
+
+    /**
+     * @return number of cells bound by this adapter, style only rebinds included
+     */
+    public int getBindCount() {
+        return bindCount;
+    }
+
+    protected int getItemResId() {
+        return itemResId;
+    }
+
+    /**
+     * @return width of every cell
+     */
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    /**
+     * Cells take this width when they are bound next, call it before notifying them.
+     */
+    public void setCellWidth(int cellWidth) {
+        this.cellWidth = cellWidth;
+    }
+
     public abstract T getItem(int position);
 
+    /**
+     * @return epoch day shown at this position
+     * @throws IndexOutOfBoundsException if position is out of the calendar range
+     */
+    public int getEpochDay(int position) throws IndexOutOfBoundsException {
+        return dateEngine.dayAt(position);
+    }
+
+    public CalendarDay getDay(int position) throws IndexOutOfBoundsException {
+        return CalendarDay.of(getEpochDay(position));
+    }
+
+    /**
+     * @param disabledDatesIndex precomputed results of the disable predicate, or null to test it on every bind
+     */
+    public void setDisabledDatesIndex(DisabledDatesIndex disabledDatesIndex) {
+        this.disabledDatesIndex = disabledDatesIndex;
+    }
+
     public boolean isDisabled(int position) {
+        return isDisabledDay(getEpochDay(position));
+    }
+
+    /**
+     * Out of range days are rejected without building a {@link Calendar},
+     * the disable predicate is only asked about days inside the range which are not indexed yet.
+     * The same {@link Calendar} instance is passed for every day, predicates must not keep it.
+     */
+    protected boolean isDisabledDay(int epochDay) {
+        if (!dateEngine.contains(epochDay)) {
+            return true;
+        }
+        if ((disabledDatesIndex != null) && disabledDatesIndex.covers(epochDay)) {
+            return disabledDatesIndex.isDisabled(epochDay);
+        }
         if (disablePredicate == null) {
             return false;
         }
-        Calendar date = getItem(position);
-        return disablePredicate.test(date);
+        horizontalCalendar.getZoneDays().setEpochDay(predicateDate, epochDay);
+        return disablePredicate.test(predicateDate);
     }
 
+    /**
+     * @return first disabled day between fromDay and toDay (included), or {@link SelectionModel.DisabledDays#NONE} if none.
+     * Read from the disabled dates index when it covers these days, out of range days are disabled.
+     */
+    public int firstDisabledDay(int fromDay, int toDay) {
+        if (fromDay < dateEngine.getStartDay()) {
+            return fromDay;
+        }
+        if ((disabledDatesIndex != null) && disabledDatesIndex.covers(fromDay) && disabledDatesIndex.covers(toDay)) {
+            return disabledDatesIndex.firstDisabled(fromDay, toDay);
+        }
+        for (int day = fromDay; day <= toDay; day++) {
+            if (isDisabledDay(day)) {
+                return day;
+            }
+        }
+        return SelectionModel.DisabledDays.NONE;
+    }
 
-    protected void applyStyle(VH viewHolder, Calendar date, int position) {
+    protected void applyStyle(VH viewHolder, int epochDay, int position) {
+        // a decorated selection draws the selected background and the selector over the cells
+        final boolean decorated = horizontalCalendar.isSelectionDecorated();
         int selectedItemPosition = horizontalCalendar.getSelectedDatePosition();
 
-        if (disablePredicate != null) {
-            boolean isDisabled = disablePredicate.test(date);
+        boolean isDisabled = isDisabledDay(epochDay);
+        if (viewHolder.itemView.isEnabled() == isDisabled) {
             viewHolder.itemView.setEnabled(!isDisabled);
-            if (isDisabled && (disabledItemStyle != null)) {
-                applyStyle(viewHolder, disabledItemStyle);
-                viewHolder.selectionView.setVisibility(View.INVISIBLE);
-                return;
+        }
+        if (isDisabled && (disabledItemStyle != null)) {
+            applyStyle(viewHolder, disabledItemStyle);
+            viewHolder.setSelectionVisibility(View.INVISIBLE);
+            return;
+        }
+
+        final SelectionModel selectionModel = horizontalCalendar.getSelectionModel();
+        if (selectionModel != null) {
+            final boolean isSelected = selectionModel.isSelected(epochDay);
+            if (isSelected) {
+                applyStyle(viewHolder, horizontalCalendar.getSelectedItemStyle());
+            } else if (position == horizontalCalendar.positionOfToday) {
+                applyStyle(viewHolder, horizontalCalendar.getTodayItemStyle());
+            } else {
+                applyStyle(viewHolder, horizontalCalendar.getDefaultStyle());
             }
+            viewHolder.setSelectionVisibility(isSelected ? View.VISIBLE : View.INVISIBLE);
+            return;
         }
 
         // Today's position
         if(position == horizontalCalendar.positionOfToday){
             applyStyle(viewHolder, horizontalCalendar.getTodayItemStyle());
-            if(position == selectedItemPosition){
-                viewHolder.selectionView.setVisibility(View.VISIBLE);
+            if((position == selectedItemPosition) && !decorated){
+                viewHolder.setSelectionVisibility(View.VISIBLE);
             }else
-                viewHolder.selectionView.setVisibility(View.INVISIBLE);
+                viewHolder.setSelectionVisibility(View.INVISIBLE);
         }//Selected day
         else if (position == selectedItemPosition) {
-            applyStyle(viewHolder, horizontalCalendar.getSelectedItemStyle());
-            viewHolder.selectionView.setVisibility(View.VISIBLE);
+            if (decorated) {
+                // only the text colors, on the background of the other cells
+                applyTextColors(viewHolder, horizontalCalendar.getSelectedItemStyle());
+                viewHolder.setContentBackground(horizontalCalendar.getDefaultStyle().getBackground());
+                viewHolder.setSelectionVisibility(View.INVISIBLE);
+            } else {
+                applyStyle(viewHolder, horizontalCalendar.getSelectedItemStyle());
+                viewHolder.setSelectionVisibility(View.VISIBLE);
+            }
         }
         // Unselected Days
         else {
             applyStyle(viewHolder, horizontalCalendar.getDefaultStyle());
-            viewHolder.selectionView.setVisibility(View.INVISIBLE);
+            viewHolder.setSelectionVisibility(View.INVISIBLE);
         }
     }
 
     protected void applyStyle(VH viewHolder, CalendarItemStyle itemStyle) {
-        viewHolder.textTop.setTextColor(itemStyle.getColorTopText());
-        viewHolder.textMiddle.setTextColor(itemStyle.getColorMiddleText());
-        viewHolder.textBottom.setTextColor(itemStyle.getColorBottomText());
+        applyTextColors(viewHolder, itemStyle);
+        viewHolder.setContentBackground(itemStyle.getBackground());
+    }
 
-        if (Build.VERSION.SDK_INT >= 16) {
-            viewHolder.layoutContent.setBackground(itemStyle.getBackground());
-        } else {
-            viewHolder.layoutContent.setBackgroundDrawable(itemStyle.getBackground());
-        }
+    private void applyTextColors(VH viewHolder, CalendarItemStyle itemStyle) {
+        viewHolder.boundTop.setTextColor(itemStyle.getColorTopText());
+        viewHolder.boundMiddle.setTextColor(itemStyle.getColorMiddleText());
+        viewHolder.boundBottom.setTextColor(itemStyle.getColorBottomText());
     }
 
-    private class MyOnClickListener implements View.OnClickListener {
-        private final RecyclerView.ViewHolder viewHolder;
+    private static class MyOnClickListener implements View.OnClickListener {
+        private final DateViewHolder viewHolder;
 
-        MyOnClickListener(RecyclerView.ViewHolder viewHolder) {
+        MyOnClickListener(DateViewHolder viewHolder) {
             this.viewHolder = viewHolder;
         }
 
         @Override
         public void onClick(View v) {
             int position = viewHolder.getAdapterPosition();
-            if (position == -1)
+            if ((position == -1) || (viewHolder.owner == null))
                 return;
 
-            horizontalCalendar.scrollToPositionWhenClicked(position);
+            viewHolder.owner.horizontalCalendar.scrollToPositionWhenClicked(position);
 
 //            horizontalCalendar.getCalendarView().setSmoothScrollSpeed(HorizontalLayoutManager.SPEED_SLOW);
 //            horizontalCalendar.centerCalendarToPosition(position);
         }
     }
 
-    private class MyOnLongClickListener implements View.OnLongClickListener {
-        private final RecyclerView.ViewHolder viewHolder;
+    private static class MyOnLongClickListener implements View.OnLongClickListener {
+        private final DateViewHolder viewHolder;
 
-        MyOnLongClickListener(RecyclerView.ViewHolder viewHolder) {
+        MyOnLongClickListener(DateViewHolder viewHolder) {
             this.viewHolder = viewHolder;
         }
 
         @Override
         public boolean onLongClick(View v) {
+            final HorizontalCalendarBaseAdapter<?, ?> owner = viewHolder.owner;
             int position = viewHolder.getAdapterPosition();
-            Calendar date = getItem(position);
-            HorizontalCalendarListener calendarListener = horizontalCalendar.getCalendarListener();
+            if ((position == -1) || (owner == null)) {
+                return false;
+            }
+            Calendar date = owner.getItem(position);
+            HorizontalCalendarListener calendarListener = owner.horizontalCalendar.getCalendarListener();
             if (calendarListener != null) {
                 return calendarListener.onDateLongClicked(date, position);
             }
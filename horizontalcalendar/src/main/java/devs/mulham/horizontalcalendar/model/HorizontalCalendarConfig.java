@@ -26,6 +26,14 @@ public class HorizontalCalendarConfig {
     private boolean showTopText;
     private boolean showBottomText;
 
+    /* Number of labels cached per format, 0 to size it from the dates on screen */
+    private int labelCacheSize;
+
+    /* Calendar systems of the days, months and years of each label */
+    private CalendarSystem calendarSystemTopText = CalendarSystem.GREGORIAN;
+    private CalendarSystem calendarSystemMiddleText = CalendarSystem.GREGORIAN;
+    private CalendarSystem calendarSystemBottomText = CalendarSystem.GREGORIAN;
+
     public HorizontalCalendarConfig() {
     }
 
@@ -81,6 +89,26 @@ public class HorizontalCalendarConfig {
         return this;
     }
 
+    public HorizontalCalendarConfig setLabelCacheSize(int labelCacheSize) {
+        this.labelCacheSize = labelCacheSize;
+        return this;
+    }
+
+    public HorizontalCalendarConfig setCalendarSystemTopText(CalendarSystem calendarSystemTopText) {
+        this.calendarSystemTopText = calendarSystemTopText;
+        return this;
+    }
+
+    public HorizontalCalendarConfig setCalendarSystemMiddleText(CalendarSystem calendarSystemMiddleText) {
+        this.calendarSystemMiddleText = calendarSystemMiddleText;
+        return this;
+    }
+
+    public HorizontalCalendarConfig setCalendarSystemBottomText(CalendarSystem calendarSystemBottomText) {
+        this.calendarSystemBottomText = calendarSystemBottomText;
+        return this;
+    }
+
     public String getFormatTopText() {
         return formatTopText;
     }
@@ -117,6 +145,22 @@ public class HorizontalCalendarConfig {
         return showBottomText;
     }
 
+    public int getLabelCacheSize() {
+        return labelCacheSize;
+    }
+
+    public CalendarSystem getCalendarSystemTopText() {
+        return calendarSystemTopText;
+    }
+
+    public CalendarSystem getCalendarSystemMiddleText() {
+        return calendarSystemMiddleText;
+    }
+
+    public CalendarSystem getCalendarSystemBottomText() {
+        return calendarSystemBottomText;
+    }
+
     public void setupDefaultValues(HorizontalCalendarConfig defaultConfig) {
         if (defaultConfig == null) {
             return;
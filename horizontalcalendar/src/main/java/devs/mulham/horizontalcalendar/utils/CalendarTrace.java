@@ -0,0 +1,65 @@
+package devs.mulham.horizontalcalendar.utils;
+
+/**
+ * Holds the {@link CalendarTracer} shared by all the calendars of the process, {@link #NO_OP} when none is installed.
+ * Call sites read the tracer once and skip building the event when it is the no-op one:
+ * <pre>
+ * final CalendarTracer tracer = CalendarTrace.tracer();
+ * if (tracer != CalendarTrace.NO_OP) {
+ *     tracer.onScrolled(dx, dy);
+ * }
+ * </pre>
+ *
+ * @since v1.4.0
+ */
+public final class CalendarTrace {
+
+    /**
+     * Tracer installed by default, ignores every event.
+     */
+    public static final CalendarTracer NO_OP = new CalendarTracer() {
+        @Override
+        public void onBind(int position, int epochDay, boolean payloadOnly) {
+        }
+
+        @Override
+        public void onScrollStateChanged(int newState) {
+        }
+
+        @Override
+        public void onScrolled(int dx, int dy) {
+        }
+
+        @Override
+        public void onSelection(int position, int epochDay) {
+        }
+
+        @Override
+        public void onFling(int velocityX, int adjustedVelocityX) {
+        }
+    };
+
+    // never null, may be installed from any thread
+    private static volatile CalendarTracer tracer = NO_OP;
+
+    private CalendarTrace() {
+    }
+
+    /**
+     * @param tracer tracer receiving the events of all the calendars, or null to stop tracing
+     */
+    public static void setTracer(CalendarTracer tracer) {
+        CalendarTrace.tracer = (tracer != null) ? tracer : NO_OP;
+    }
+
+    public static boolean isEnabled() {
+        return tracer != NO_OP;
+    }
+
+    /**
+     * @return the installed tracer, {@link #NO_OP} if none is
+     */
+    public static CalendarTracer tracer() {
+        return tracer;
+    }
+}
@@ -0,0 +1,70 @@
+package devs.mulham.horizontalcalendar.utils;
+
+import android.util.Log;
+
+/**
+ * Structured events of the calendar, for debugging and profiling.
+ * Install one with {@link CalendarTrace#setTracer(CalendarTracer)}, none is installed by default
+ * and the events are then skipped after a single check of the installed tracer.
+ * <p>
+ * Methods are called on the main thread, inside the frame, they should not block.
+ *
+ * @since v1.4.0
+ */
+public interface CalendarTracer {
+
+    /**
+     * @param position    adapter position of the cell
+     * @param epochDay    day bound to the cell
+     * @param payloadOnly true if only the style of the cell was refreshed
+     */
+    void onBind(int position, int epochDay, boolean payloadOnly);
+
+    /**
+     * @param newState one of the {@code RecyclerView.SCROLL_STATE_*} values
+     */
+    void onScrollStateChanged(int newState);
+
+    void onScrolled(int dx, int dy);
+
+    void onSelection(int position, int epochDay);
+
+    /**
+     * @param velocityX         velocity of the gesture
+     * @param adjustedVelocityX velocity the calendar flings with
+     */
+    void onFling(int velocityX, int adjustedVelocityX);
+
+    /**
+     * Writes every event to logcat with the tag {@link #TAG}.
+     */
+    class Logcat implements CalendarTracer {
+
+        public static final String TAG = "HorizontalCalendar";
+
+        @Override
+        public void onBind(int position, int epochDay, boolean payloadOnly) {
+            Log.d(TAG, "bind position=" + position + " epochDay=" + epochDay + (payloadOnly ? " (style)" : ""));
+        }
+
+        @Override
+        public void onScrollStateChanged(int newState) {
+            Log.d(TAG, "scroll state=" + newState);
+        }
+
+        @Override
+        public void onScrolled(int dx, int dy) {
+            Log.d(TAG, "scrolled dx=" + dx + " dy=" + dy);
+        }
+
+        @Override
+        public void onSelection(int position, int epochDay) {
+            Log.d(TAG, "selection position=" + position + " epochDay=" + epochDay);
+        }
+
+        @Override
+        public void onFling(int velocityX, int adjustedVelocityX) {
+            Log.d(TAG, "fling velocityX=" + velocityX + " adjusted=" + adjustedVelocityX);
+        }
+    }
+}
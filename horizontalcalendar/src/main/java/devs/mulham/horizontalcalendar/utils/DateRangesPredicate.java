@@ -0,0 +1,44 @@
+package devs.mulham.horizontalcalendar.utils;
+
+import java.util.Calendar;
+import java.util.Collection;
+
+import devs.mulham.horizontalcalendar.model.CalendarDay;
+import devs.mulham.horizontalcalendar.model.CalendarItemStyle;
+import devs.mulham.horizontalcalendar.model.DateRange;
+import devs.mulham.horizontalcalendar.model.DateRanges;
+
+/**
+ * Disable all the dates inside a set of ranges (blackout periods).
+ * Ranges are merged and sorted once, each test is a binary search.
+ *
+ * @since v1.4.0
+ */
+public class DateRangesPredicate implements HorizontalCalendarPredicate, HorizontalCalendarPredicate.Cheap {
+
+    private final DateRanges ranges;
+    private final CalendarItemStyle style;
+
+    public DateRangesPredicate(Collection<DateRange> ranges, CalendarItemStyle style) {
+        this(DateRanges.of(ranges), style);
+    }
+
+    public DateRangesPredicate(DateRanges ranges, CalendarItemStyle style) {
+        this.ranges = ranges;
+        this.style = style;
+    }
+
+    public DateRanges getRanges() {
+        return ranges;
+    }
+
+    @Override
+    public boolean test(Calendar date) {
+        return ranges.contains(CalendarDay.epochDayOf(date));
+    }
+
+    @Override
+    public CalendarItemStyle style() {
+        return style;
+    }
+}
@@ -0,0 +1,257 @@
+package devs.mulham.horizontalcalendar.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import devs.mulham.horizontalcalendar.model.DateRange;
+import devs.mulham.horizontalcalendar.model.SelectionModel;
+import devs.mulham.horizontalcalendar.model.ZoneDays;
+
+/**
+ * Result of a {@link HorizontalCalendarPredicate} for every day of a range, stored in a {@link BitSet}.
+ * <p>
+ * The predicate runs once per day when the index is built, binds then read one bit.
+ * Call {@link #invalidate(DateRange)} when the predicate answer changes for some days,
+ * and {@link #slide(int, Runnable)} to move the range, only the days entering it are tested.
+ * <p>
+ * When built with an {@link Executor} the predicate runs off the main thread, so it must be thread safe.
+ * Until the background build is done {@link #covers(int)} returns false and callers should test the
+ * predicate directly.
+ *
+ * @since v1.4.0
+ */
+public final class DisabledDatesIndex {
+
+    private final HorizontalCalendarPredicate predicate;
+    private final Executor executor;
+    private final ZoneDays zoneDays;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private BitSet disabled;
+    private int startDay;
+    private int endDay;
+    private boolean ready;
+
+    // incremented on every build, results of older background builds are dropped
+    private int generation;
+
+    // days entering the range on a slide, tested in the background and not covered yet
+    private boolean sliding;
+    private int enteringStartDay;
+    private int enteringEndDay;
+
+    // invalidated while a build was running, it may have tested these days with the old answers
+    private final List<DateRange> pendingInvalidations = new ArrayList<>();
+
+    /**
+     * @param predicate the predicate to index
+     * @param executor  executor running the build, or null to build on the calling thread
+     * @param zoneDays  time zone of the dates given to the predicate
+     */
+    public DisabledDatesIndex(HorizontalCalendarPredicate predicate, Executor executor, ZoneDays zoneDays) {
+        this.predicate = predicate;
+        this.executor = executor;
+        this.zoneDays = zoneDays;
+    }
+
+    /**
+     * Index the days between startDay and endDay (included).
+     *
+     * @param onReady called on the main thread once the index can be used, may be null
+     */
+    public void build(final int startDay, final int endDay, final Runnable onReady) {
+        final int buildGeneration = ++generation;
+        ready = false;
+        sliding = false;
+
+        if (executor == null) {
+            publish(buildGeneration, startDay, endDay, compute(startDay, endDay));
+            if (onReady != null) {
+                onReady.run();
+            }
+            return;
+        }
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final BitSet result = compute(startDay, endDay);
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (publish(buildGeneration, startDay, endDay, result) && (onReady != null)) {
+                            onReady.run();
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Move the indexed range by some days, the bits of the days still in range are kept
+     * and the predicate only runs for the days entering it.
+     *
+     * @param onReady called on the main thread once the entering days are indexed, may be null
+     * @return false if nothing was moved: the index is not ready, a slide is still running
+     * or the range moves by its whole length. Build the index again in this case
+     */
+    public boolean slide(int deltaDays, final Runnable onReady) {
+        final int length = endDay - startDay + 1;
+        if (!ready || sliding || (Math.abs(deltaDays) >= length)) {
+            return false;
+        }
+
+        final BitSet shifted = new BitSet(length);
+        for (int i = disabled.nextSetBit(0); i >= 0; i = disabled.nextSetBit(i + 1)) {
+            final int index = i - deltaDays;
+            if ((index >= 0) && (index < length)) {
+                shifted.set(index);
+            }
+        }
+        final int enteringStart = (deltaDays > 0) ? endDay + 1 : startDay + deltaDays;
+        final int enteringEnd = (deltaDays > 0) ? endDay + deltaDays : startDay - 1;
+        disabled = shifted;
+        startDay += deltaDays;
+        endDay += deltaDays;
+
+        final int slideGeneration = ++generation;
+        if (executor == null) {
+            publishEntering(slideGeneration, enteringStart, compute(enteringStart, enteringEnd));
+            if (onReady != null) {
+                onReady.run();
+            }
+            return true;
+        }
+
+        sliding = true;
+        enteringStartDay = enteringStart;
+        enteringEndDay = enteringEnd;
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final BitSet result = compute(enteringStart, enteringEnd);
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (publishEntering(slideGeneration, enteringStart, result) && (onReady != null)) {
+                            onReady.run();
+                        }
+                    }
+                });
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Test the predicate again for the days of this range, on the calling thread.
+     * While a build or a slide is running the range is recorded and tested again when it is published.
+     *
+     * @return false if the index is not ready yet, the days are refreshed once it is
+     */
+    public boolean invalidate(DateRange range) {
+        if (!ready) {
+            pendingInvalidations.add(range);
+            return false;
+        }
+
+        retest(range);
+        if (sliding) {
+            pendingInvalidations.add(range);
+        }
+        return true;
+    }
+
+    /**
+     * @return true if {@link #isDisabled(int)} can answer for this day
+     */
+    public boolean covers(int epochDay) {
+        return ready && (epochDay >= startDay) && (epochDay <= endDay)
+                && !(sliding && (epochDay >= enteringStartDay) && (epochDay <= enteringEndDay));
+    }
+
+    /**
+     * @return the indexed predicate result, only valid when {@link #covers(int)} returns true
+     */
+    public boolean isDisabled(int epochDay) {
+        return disabled.get(epochDay - startDay);
+    }
+
+    /**
+     * @return first disabled day between fromDay and toDay (included), or {@link SelectionModel.DisabledDays#NONE} if none,
+     * only valid when {@link #covers(int)} returns true for both days
+     */
+    public int firstDisabled(int fromDay, int toDay) {
+        final int index = disabled.nextSetBit(fromDay - startDay);
+        return ((index == -1) || (startDay + index > toDay)) ? SelectionModel.DisabledDays.NONE : startDay + index;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private boolean publish(int buildGeneration, int startDay, int endDay, BitSet result) {
+        if (buildGeneration != generation) {
+            return false;
+        }
+        this.startDay = startDay;
+        this.endDay = endDay;
+        this.disabled = result;
+        this.ready = true;
+        retestPendingInvalidations();
+        return true;
+    }
+
+    private boolean publishEntering(int slideGeneration, int enteringStart, BitSet result) {
+        if (slideGeneration != generation) {
+            return false;
+        }
+        final int offset = enteringStart - startDay;
+        for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+            disabled.set(offset + i);
+        }
+        sliding = false;
+        retestPendingInvalidations();
+        return true;
+    }
+
+    private void retestPendingInvalidations() {
+        for (DateRange range : pendingInvalidations) {
+            retest(range);
+        }
+        pendingInvalidations.clear();
+    }
+
+    private void retest(DateRange range) {
+        final int from = Math.max(range.getStartDay(), startDay);
+        final int to = Math.min(range.getEndDay(), endDay);
+        final Calendar scratch = Calendar.getInstance(zoneDays.getTimeZone());
+        for (int day = from; day <= to; day++) {
+            disabled.set(day - startDay, test(scratch, day));
+        }
+    }
+
+    private BitSet compute(int startDay, int endDay) {
+        final BitSet result = new BitSet(endDay - startDay + 1);
+        final Calendar scratch = Calendar.getInstance(zoneDays.getTimeZone());
+        for (int day = startDay; day <= endDay; day++) {
+            if (test(scratch, day)) {
+                result.set(day - startDay);
+            }
+        }
+        return result;
+    }
+
+    private boolean test(Calendar scratch, int epochDay) {
+        // the same instance is reused for every day, predicates must not keep it
+        zoneDays.setEpochDay(scratch, epochDay);
+        return predicate.test(scratch);
+    }
+}
@@ -22,4 +22,14 @@ public abstract class HorizontalCalendarListener {
     public void onDateClicked(Calendar date, int position) {
     }
 
+    /**
+     * A date reported to {@link #onDateSelected} is no longer selected, another date is about to be reported.
+     * Work started for it can be dropped.
+     *
+     * @param position position of the date, or -1 if it left the range meanwhile
+     * @see SelectionDispatchPolicy
+     */
+    public void onDateSelectionCancelled(Calendar date, int position) {
+    }
+
 }
\ No newline at end of file
@@ -3,35 +3,140 @@ package devs.mulham.horizontalcalendar.utils;
 import java.util.Calendar;
 
 import devs.mulham.horizontalcalendar.model.CalendarItemStyle;
+import devs.mulham.horizontalcalendar.model.DayPredicate;
 
 /**
  * @author Mulham-Raee
  * @since v1.2.5
  */
-public interface HorizontalCalendarPredicate {
+public interface HorizontalCalendarPredicate extends DayPredicate {
 
+    /**
+     * The calendar reuses the same {@link Calendar} instance for every date it tests, on the thread indexing the
+     * disabled dates as well: read it here, but do not keep it nor modify it, clone it to use it later.
+     *
+     * @param date date to test, only valid during this call
+     * @return true if this date should be disabled
+     */
+    @Override
     boolean test(Calendar date);
 
     CalendarItemStyle style();
 
+    /**
+     * Marker for predicates which are cheap to test (no I/O, no lookup in big collections),
+     * {@link Or} and {@link And} test them first to skip the expensive one when possible.
+     */
+    interface Cheap extends DayPredicate.Cheap {
+    }
+
+    /**
+     * Disable a date if any of the two predicates disables it, the style of the first predicate is used.
+     * Prefer {@link #of(HorizontalCalendarPredicate, HorizontalCalendarPredicate)}, which keeps the cheap marker.
+     */
     class Or implements HorizontalCalendarPredicate {
 
         private final HorizontalCalendarPredicate firstPredicate;
-        private final HorizontalCalendarPredicate secondPredicate;
+        // tests the cheap predicate first
+        private final DayPredicate combined;
 
         public Or(HorizontalCalendarPredicate firstPredicate, HorizontalCalendarPredicate secondPredicate) {
             this.firstPredicate = firstPredicate;
-            this.secondPredicate = secondPredicate;
+            this.combined = new DayPredicate.Or(firstPredicate, secondPredicate);
+        }
+
+        /**
+         * @return an Or which is {@link Cheap} itself when both predicates are, so it is tested first when combined again
+         */
+        public static Or of(HorizontalCalendarPredicate firstPredicate, HorizontalCalendarPredicate secondPredicate) {
+            return ((firstPredicate instanceof DayPredicate.Cheap) && (secondPredicate instanceof DayPredicate.Cheap))
+                    ? new CheapOr(firstPredicate, secondPredicate) : new Or(firstPredicate, secondPredicate);
         }
 
         @Override
         public boolean test(Calendar date) {
-            return firstPredicate.test(date) || secondPredicate.test(date);
+            return combined.test(date);
         }
 
         @Override
         public CalendarItemStyle style() {
             return firstPredicate.style();
         }
+
+        private static final class CheapOr extends Or implements Cheap {
+
+            CheapOr(HorizontalCalendarPredicate firstPredicate, HorizontalCalendarPredicate secondPredicate) {
+                super(firstPredicate, secondPredicate);
+            }
+        }
+    }
+
+    /**
+     * Disable a date only if both predicates disable it, the style of the first predicate is used.
+     * Prefer {@link #of(HorizontalCalendarPredicate, HorizontalCalendarPredicate)}, which keeps the cheap marker.
+     */
+    class And implements HorizontalCalendarPredicate {
+
+        private final HorizontalCalendarPredicate firstPredicate;
+        // tests the cheap predicate first
+        private final DayPredicate combined;
+
+        public And(HorizontalCalendarPredicate firstPredicate, HorizontalCalendarPredicate secondPredicate) {
+            this.firstPredicate = firstPredicate;
+            this.combined = new DayPredicate.And(firstPredicate, secondPredicate);
+        }
+
+        /**
+         * @return an And which is {@link Cheap} itself when both predicates are, so it is tested first when combined again
+         */
+        public static And of(HorizontalCalendarPredicate firstPredicate, HorizontalCalendarPredicate secondPredicate) {
+            return ((firstPredicate instanceof DayPredicate.Cheap) && (secondPredicate instanceof DayPredicate.Cheap))
+                    ? new CheapAnd(firstPredicate, secondPredicate) : new And(firstPredicate, secondPredicate);
+        }
+
+        @Override
+        public boolean test(Calendar date) {
+            return combined.test(date);
+        }
+
+        @Override
+        public CalendarItemStyle style() {
+            return firstPredicate.style();
+        }
+
+        private static final class CheapAnd extends And implements Cheap {
+
+            CheapAnd(HorizontalCalendarPredicate firstPredicate, HorizontalCalendarPredicate secondPredicate) {
+                super(firstPredicate, secondPredicate);
+            }
+        }
+    }
+
+    /**
+     * Disable the dates not disabled by a predicate, e.g. everything outside of some available ranges.
+     */
+    class Not implements HorizontalCalendarPredicate {
+
+        private final HorizontalCalendarPredicate predicate;
+        private final CalendarItemStyle style;
+
+        public Not(HorizontalCalendarPredicate predicate) {
+            this(predicate, predicate.style());
+        }
+
+        public Not(HorizontalCalendarPredicate predicate, CalendarItemStyle style) {
+            this.predicate = predicate;
+            this.style = style;
+        }
+
+        @Override
+        public boolean test(Calendar date) {
+            return !predicate.test(date);
+        }
+
+        @Override
+        public CalendarItemStyle style() {
+            return style;
+        }
     }
 }
@@ -0,0 +1,127 @@
+package devs.mulham.horizontalcalendar.utils;
+
+import java.util.Calendar;
+import java.util.Locale;
+
+import devs.mulham.horizontalcalendar.model.CalendarSystem;
+import devs.mulham.horizontalcalendar.model.CalendarSystemDates;
+import devs.mulham.horizontalcalendar.model.DayLabelCache;
+import devs.mulham.horizontalcalendar.model.ZoneDays;
+
+/**
+ * Bounded LRU cache of formatted labels for one date format, keyed by epoch day.
+ * <p>
+ * The cache is dropped when the default {@link Locale} changes or its {@link LocaleFormats} are invalidated,
+ * so entries are effectively keyed by (format, locale, epoch day). Entries are kept in a {@link DayLabelCache},
+ * lookups do not allocate and only a miss formats the day, with the pattern compiled once per locale.
+ * The dates of a calendar system other than the Gregorian one are converted a window at a time.
+ *
+ * @since v1.4.0
+ */
+public final class LabelCache {
+
+    private final String format;
+    private final ZoneDays zoneDays;
+    private final Calendar scratch;
+    private final CalendarSystem calendarSystem;
+    // null for the Gregorian calendar, read from the scratch calendar
+    private final CalendarSystemDates systemDates;
+    private LocaleFormats formats;
+
+    private final DayLabelCache cache;
+
+    /**
+     * @param zoneDays time zone the days are formatted in
+     */
+    public LabelCache(String format, int capacity, ZoneDays zoneDays) {
+        this(format, CalendarSystem.GREGORIAN, capacity, zoneDays);
+    }
+
+    /**
+     * @param calendarSystem calendar system of the days, months and years of the labels
+     * @param zoneDays       time zone the days are formatted in
+     */
+    public LabelCache(String format, CalendarSystem calendarSystem, int capacity, ZoneDays zoneDays) {
+        this.cache = new DayLabelCache(new DayLabelCache.Formatter() {
+            @Override
+            public CharSequence format(int epochDay) {
+                return formatDay(epochDay);
+            }
+        }, capacity);
+        this.format = format;
+        this.zoneDays = zoneDays;
+        this.scratch = Calendar.getInstance(zoneDays.getTimeZone());
+        this.calendarSystem = calendarSystem;
+        // twice the labels, a miss on either side converts ahead
+        this.systemDates = (calendarSystem == CalendarSystem.GREGORIAN) ? null : new CalendarSystemDates(calendarSystem, capacity * 2);
+        this.formats = LocaleFormats.get();
+    }
+
+    /**
+     * @return a capacity covering a few weeks around a window of this many dates
+     */
+    public static int capacityFor(int datesOnScreen) {
+        return Math.max(4 * 7, datesOnScreen * 4);
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public CalendarSystem getCalendarSystem() {
+        return calendarSystem;
+    }
+
+    public int getCapacity() {
+        return cache.getCapacity();
+    }
+
+    /**
+     * @return the label of this epoch day, formatted only if it is not cached yet
+     */
+    public CharSequence get(int epochDay) {
+        final LocaleFormats currentFormats = LocaleFormats.get();
+        if (currentFormats != formats) {
+            cache.clear();
+            formats = currentFormats;
+        }
+        return cache.get(epochDay);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public void resetStats() {
+        cache.resetStats();
+    }
+
+    @Override
+    public String toString() {
+        return "LabelCache{format=" + format + ", size=" + cache.size() + "/" + cache.getCapacity()
+                + ", hits=" + cache.getHitCount() + ", misses=" + cache.getMissCount()
+                + ", evictions=" + cache.getEvictionCount() + "}";
+    }
+
+    private CharSequence formatDay(int epochDay) {
+        zoneDays.setEpochDay(scratch, epochDay);
+        return (systemDates == null) ? formats.format(format, scratch)
+                : formats.format(format, scratch, calendarSystem, systemDates.dateOf(epochDay));
+    }
+}
@@ -0,0 +1,295 @@
+package devs.mulham.horizontalcalendar.utils;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.text.format.DateFormat;
+
+import java.text.DateFormatSymbols;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import devs.mulham.horizontalcalendar.model.CalendarSystem;
+
+/**
+ * Process wide month and weekday names of a locale, read once from {@link DateFormatSymbols},
+ * and the date format patterns compiled against them, shared by every calendar and every bind.
+ * <p>
+ * {@link #get()} returns the same instance as long as the default {@link Locale} does not change,
+ * so a caller can keep it and compare it by identity to know its labels are still valid.
+ * Everything is dropped on {@link Intent#ACTION_LOCALE_CHANGED} once {@link #register(Context)} was called.
+ * <p>
+ * Patterns use the letters of {@link DateFormat}: {@code d}, {@code E} up to 4 times, {@code M} up to 4 times,
+ * {@code y} and quoted text are formatted from the cached names, any other pattern is handed to {@link DateFormat}.
+ *
+ * @since v1.4.0
+ */
+public final class LocaleFormats {
+
+    private static final Map<Locale, LocaleFormats> formatsByLocale = new HashMap<>();
+    private static volatile LocaleFormats current;
+    private static boolean receiverRegistered;
+
+    private final Locale locale;
+    private final char zeroDigit;
+    private final String[] weekdays;
+    private final String[] shortWeekdays;
+    private final String[] months;
+    private final String[] shortMonths;
+    private final Map<String, Pattern> patterns = new HashMap<>();
+
+    private LocaleFormats(Locale locale) {
+        this.locale = locale;
+        final DateFormatSymbols symbols = DateFormatSymbols.getInstance(locale);
+        this.zeroDigit = DecimalFormatSymbols.getInstance(locale).getZeroDigit();
+        this.weekdays = symbols.getWeekdays();
+        this.shortWeekdays = symbols.getShortWeekdays();
+        this.months = symbols.getMonths();
+        this.shortMonths = symbols.getShortMonths();
+    }
+
+    /**
+     * @return names and patterns of the default locale
+     */
+    public static LocaleFormats get() {
+        final Locale locale = Locale.getDefault();
+        final LocaleFormats formats = current;
+        if ((formats != null) && (formats.locale == locale)) {
+            return formats;
+        }
+
+        synchronized (formatsByLocale) {
+            LocaleFormats cached = formatsByLocale.get(locale);
+            if (cached == null) {
+                cached = new LocaleFormats(locale);
+                formatsByLocale.put(locale, cached);
+            }
+            current = cached;
+            return cached;
+        }
+    }
+
+    /**
+     * Drop the cached names and patterns when the locale of the device changes, only the first call registers.
+     * Must be called on the main thread.
+     */
+    public static void register(Context context) {
+        if (receiverRegistered) {
+            return;
+        }
+        receiverRegistered = true;
+        context.getApplicationContext().registerReceiver(new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                invalidate();
+            }
+        }, new IntentFilter(Intent.ACTION_LOCALE_CHANGED));
+    }
+
+    /**
+     * Drop every cached locale, the next {@link #get()} reads the symbols again.
+     */
+    public static void invalidate() {
+        synchronized (formatsByLocale) {
+            formatsByLocale.clear();
+            current = null;
+        }
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @param dayOfWeek {@link Calendar#SUNDAY} to {@link Calendar#SATURDAY}
+     */
+    public String getWeekdayName(int dayOfWeek) {
+        return weekdays[dayOfWeek];
+    }
+
+    public String getShortWeekdayName(int dayOfWeek) {
+        return shortWeekdays[dayOfWeek];
+    }
+
+    /**
+     * @param month {@link Calendar#JANUARY} to {@link Calendar#DECEMBER}
+     */
+    public String getMonthName(int month) {
+        return months[month];
+    }
+
+    public String getShortMonthName(int month) {
+        return shortMonths[month];
+    }
+
+    /**
+     * Same result as {@link DateFormat#format(CharSequence, Calendar)}, the pattern is compiled once per locale.
+     */
+    public CharSequence format(String pattern, Calendar calendar) {
+        return format(pattern, calendar, null, 0);
+    }
+
+    /**
+     * Format the day, month and year of a date of another calendar system, the weekday is read from the calendar.
+     * Patterns with letters not formatted here are handed to {@link DateFormat}, in the Gregorian calendar.
+     *
+     * @param calendarSystem system of the date, or null to read the whole date from the calendar
+     * @param date           the same day as the calendar, from {@link CalendarSystem#dateOf(int)}
+     */
+    public CharSequence format(String pattern, Calendar calendar, CalendarSystem calendarSystem, int date) {
+        Pattern compiled;
+        synchronized (patterns) {
+            compiled = patterns.get(pattern);
+            if (compiled == null) {
+                compiled = Pattern.compile(pattern);
+                patterns.put(pattern, compiled);
+            }
+        }
+
+        if (compiled.tokens == null) {
+            return DateFormat.format(pattern, calendar);
+        }
+        final StringBuilder sb = new StringBuilder(pattern.length() + 8);
+        for (Token token : compiled.tokens) {
+            token.appendTo(sb, calendar, calendarSystem, date, this);
+        }
+        return sb.toString();
+    }
+
+    private void appendNumber(StringBuilder sb, int value, int minDigits) {
+        final int start = sb.length();
+        sb.append(value);
+        for (int i = sb.length() - start; i < minDigits; i++) {
+            sb.insert(start, '0');
+        }
+        if (zeroDigit != '0') {
+            for (int i = start; i < sb.length(); i++) {
+                sb.setCharAt(i, (char) (zeroDigit + (sb.charAt(i) - '0')));
+            }
+        }
+    }
+
+    private static final class Pattern {
+
+        // null if the pattern has a letter not formatted here
+        final Token[] tokens;
+
+        private Pattern(Token[] tokens) {
+            this.tokens = tokens;
+        }
+
+        static Pattern compile(String pattern) {
+            final List<Token> tokens = new ArrayList<>();
+            final int length = pattern.length();
+            int i = 0;
+            while (i < length) {
+                final char c = pattern.charAt(i);
+                if (c == '\'') {
+                    // quoted text, two quotes in a row stand for one
+                    final StringBuilder text = new StringBuilder();
+                    int j = i + 1;
+                    if ((j < length) && (pattern.charAt(j) == '\'')) {
+                        text.append('\'');
+                        j++;
+                    } else {
+                        while (j < length) {
+                            if (pattern.charAt(j) == '\'') {
+                                if (((j + 1) < length) && (pattern.charAt(j + 1) == '\'')) {
+                                    text.append('\'');
+                                    j += 2;
+                                    continue;
+                                }
+                                j++;
+                                break;
+                            }
+                            text.append(pattern.charAt(j++));
+                        }
+                    }
+                    tokens.add(new Token(Token.TEXT, 0, text.toString()));
+                    i = j;
+                    continue;
+                }
+
+                if (!(((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')))) {
+                    tokens.add(new Token(Token.TEXT, 0, String.valueOf(c)));
+                    i++;
+                    continue;
+                }
+
+                int count = 1;
+                while (((i + count) < length) && (pattern.charAt(i + count) == c)) {
+                    count++;
+                }
+                final boolean supported = (c == 'd') || (c == 'y')
+                        || (((c == 'E') || (c == 'M')) && (count <= 4));
+                if (!supported) {
+                    return new Pattern(null);
+                }
+                tokens.add(new Token(c, count, null));
+                i += count;
+            }
+            return new Pattern(tokens.toArray(new Token[tokens.size()]));
+        }
+    }
+
+    private static final class Token {
+
+        static final char TEXT = 0;
+
+        final char letter;
+        final int count;
+        final String text;
+
+        Token(char letter, int count, String text) {
+            this.letter = letter;
+            this.count = count;
+            this.text = text;
+        }
+
+        void appendTo(StringBuilder sb, Calendar calendar, CalendarSystem calendarSystem, int date, LocaleFormats formats) {
+            switch (letter) {
+                case 'd':
+                    formats.appendNumber(sb, (calendarSystem == null)
+                            ? calendar.get(Calendar.DAY_OF_MONTH) : CalendarSystem.dayOfMonthOf(date), count);
+                    break;
+                case 'E':
+                    final int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
+                    sb.append((count == 4) ? formats.weekdays[dayOfWeek] : formats.shortWeekdays[dayOfWeek]);
+                    break;
+                case 'M':
+                    final int month = (calendarSystem == null) ? calendar.get(Calendar.MONTH) : CalendarSystem.monthOf(date);
+                    if (count >= 3) {
+                        // a system with Gregorian months leaves their names to the locale
+                        String name = null;
+                        if (calendarSystem != null) {
+                            name = (count == 4) ? calendarSystem.getMonthName(month) : calendarSystem.getShortMonthName(month);
+                        }
+                        if (name == null) {
+                            name = (count == 4) ? formats.months[month] : formats.shortMonths[month];
+                        }
+                        sb.append(name);
+                    } else {
+                        formats.appendNumber(sb, month + 1, count);
+                    }
+                    break;
+                case 'y':
+                    final int year = (calendarSystem == null) ? calendar.get(Calendar.YEAR) : CalendarSystem.yearOf(date);
+                    if (count <= 2) {
+                        formats.appendNumber(sb, year % 100, 2);
+                    } else {
+                        formats.appendNumber(sb, year, 1);
+                    }
+                    break;
+                default:
+                    sb.append(text);
+                    break;
+            }
+        }
+    }
+}
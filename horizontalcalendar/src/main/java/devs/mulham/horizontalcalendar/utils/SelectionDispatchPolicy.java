@@ -0,0 +1,59 @@
+package devs.mulham.horizontalcalendar.utils;
+
+/**
+ * When {@link HorizontalCalendarListener#onDateSelected} is called after the selected date changed.
+ * <p>
+ * A fast swipe or a few taps on next day may change the selection several times in a row.
+ * Coalesced and debounced policies only report the last date, once it stays selected for a frame or a delay.
+ * With any policy, a date reported before is passed to
+ * {@link HorizontalCalendarListener#onDateSelectionCancelled} when another date is reported,
+ * so the work started for it can be dropped.
+ *
+ * @since v1.4.0
+ */
+public final class SelectionDispatchPolicy {
+
+    private static final SelectionDispatchPolicy IMMEDIATE = new SelectionDispatchPolicy(-1);
+    private static final SelectionDispatchPolicy NEXT_FRAME = new SelectionDispatchPolicy(0);
+
+    private final long delayMillis;
+
+    private SelectionDispatchPolicy(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Every selection is reported when it happens, the default.
+     */
+    public static SelectionDispatchPolicy immediate() {
+        return IMMEDIATE;
+    }
+
+    /**
+     * Selections of the same frame are reported once, on the next frame.
+     */
+    public static SelectionDispatchPolicy coalesceToFrame() {
+        return NEXT_FRAME;
+    }
+
+    /**
+     * A selection is reported once no other selection happened for this delay.
+     */
+    public static SelectionDispatchPolicy debounce(long delayMillis) {
+        if (delayMillis <= 0) {
+            throw new IllegalArgumentException("delay must be positive: " + delayMillis);
+        }
+        return new SelectionDispatchPolicy(delayMillis);
+    }
+
+    public boolean isImmediate() {
+        return delayMillis < 0;
+    }
+
+    /**
+     * @return delay without selection before reporting, 0 to report on the next frame, negative if immediate
+     */
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+}
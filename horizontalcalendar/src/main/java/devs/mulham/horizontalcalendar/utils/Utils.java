@@ -2,15 +2,15 @@ package devs.mulham.horizontalcalendar.utils;
 
 import android.content.Context;
 import android.graphics.Point;
-import android.util.Log;
 import android.view.Display;
 import android.view.ViewGroup;
 import android.view.WindowManager;
 
 import java.util.Calendar;
-import java.util.concurrent.TimeUnit;
 
 import devs.mulham.horizontalcalendar.HorizontalCalendar;
+import devs.mulham.horizontalcalendar.model.CalendarDay;
+import devs.mulham.horizontalcalendar.model.CalendarModel;
 
 /**
  * @author Mulham-Raee
@@ -20,6 +20,8 @@ public final class Utils {
 
     /**
      * calculate each item width depends on {@link HorizontalCalendar#numberOfDatesOnScreen}
+     * <p>
+     * Only a first estimate from the display width, the calendar view corrects it from its own width once laid out.
      */
     public static int calculateCellWidth(Context context, int itemsOnScreen) {
         WindowManager windowManager = ((WindowManager) context.getSystemService(Context.WINDOW_SERVICE));
@@ -38,15 +40,7 @@ public final class Utils {
 
 
     public static int calculateRelativeCenterPosition(final int position, final int centerItem, final int shiftCells) {
-        int relativeCenterPosition = position;
-
-        if (position > centerItem) {
-            relativeCenterPosition = position + shiftCells;
-        } else if (position < centerItem) {
-            relativeCenterPosition = position - shiftCells;
-        }
-
-        return relativeCenterPosition;
+        return CalendarModel.relativeCenterPosition(position, centerItem, shiftCells);
     }
 
     /**
@@ -62,14 +56,12 @@ public final class Utils {
                 && (day == calendar2.get(Calendar.DAY_OF_MONTH));
     }
 
+    /**
+     * Counted on the dates, a day shortened by a DST transition still counts as one day.
+     * The calendars are left untouched, their times of day are ignored.
+     */
     public static int daysBetween(Calendar startInclusive, Calendar endExclusive){
-        zeroTime(startInclusive);
-        zeroTime(endExclusive);
-
-        long diff = endExclusive.getTimeInMillis() - startInclusive.getTimeInMillis(); //result in millis
-        Log.d("DaysBetween", String.valueOf(diff));
-        Log.d("DaysBetween", String.valueOf(TimeUnit.DAYS.toDays(diff)));
-        return (int) TimeUnit.MILLISECONDS.toDays(diff);
+        return CalendarDay.daysBetween(startInclusive, endExclusive);
     }
 
     public static void zeroTime(Calendar calendar){
@@ -0,0 +1,133 @@
+package devs.mulham.horizontalcalendar;
+
+import android.os.Build;
+import android.support.v7.widget.RecyclerView;
+import android.view.ContextThemeWrapper;
+import android.widget.FrameLayout;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.util.ReflectionHelpers;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 26)
+public class CalendarJankMonitorTest {
+
+    private static final int CALENDAR_VIEW_ID = 1;
+    // 60 Hz, the refresh rate of the Robolectric display
+    private static final long FRAME_NANOS = 16666667L;
+
+    private final List<CalendarJankMonitor.Report> reports = new ArrayList<>();
+    private final CalendarJankMonitor.Listener listener = new CalendarJankMonitor.Listener() {
+        @Override
+        public void onScrollSessionEnd(CalendarJankMonitor.Report report) {
+            reports.add(report);
+        }
+    };
+    private HorizontalCalendarView calendarView;
+
+    @Before
+    public void setUp() {
+        ContextThemeWrapper context = new ContextThemeWrapper(RuntimeEnvironment.application,
+                android.support.v7.appcompat.R.style.Theme_AppCompat);
+        FrameLayout rootView = new FrameLayout(context);
+        calendarView = new HorizontalCalendarView(context);
+        calendarView.setId(CALENDAR_VIEW_ID);
+        rootView.addView(calendarView);
+
+        Calendar startDate = Calendar.getInstance();
+        startDate.add(Calendar.MONTH, -1);
+        Calendar endDate = Calendar.getInstance();
+        endDate.add(Calendar.MONTH, 1);
+        new HorizontalCalendar.Builder(rootView, CALENDAR_VIEW_ID)
+                .range(startDate, endDate)
+                .datesNumberOnScreen(5)
+                .build();
+
+        // frames are given by the test, the posted frame callbacks never run
+        Robolectric.getForegroundThreadScheduler().pause();
+    }
+
+    @Test
+    public void countsFramesOfAScrollSession() {
+        CalendarJankMonitor monitor = CalendarJankMonitor.attach(calendarView, listener);
+        monitor.onScrollStateChanged(calendarView, RecyclerView.SCROLL_STATE_DRAGGING);
+        Assert.assertTrue(monitor.isRecording());
+
+        long frameTime = 1000 * FRAME_NANOS;
+        Assert.assertTrue(monitor.onFrame(frameTime));
+        for (int i = 0; i < 10; i++) {
+            frameTime += FRAME_NANOS;
+            monitor.onFrame(frameTime);
+        }
+        // a frame three refresh intervals long skips two frames
+        frameTime += 3 * FRAME_NANOS;
+        monitor.onFrame(frameTime);
+
+        // a fling continues the session of the drag
+        monitor.onScrollStateChanged(calendarView, RecyclerView.SCROLL_STATE_SETTLING);
+        Assert.assertTrue(reports.isEmpty());
+
+        monitor.onScrollStateChanged(calendarView, RecyclerView.SCROLL_STATE_IDLE);
+        Assert.assertFalse(monitor.isRecording());
+        Assert.assertFalse(monitor.onFrame(frameTime + FRAME_NANOS));
+        Assert.assertEquals(1, reports.size());
+        CalendarJankMonitor.Report report = reports.get(0);
+        Assert.assertEquals(11, report.getFrames());
+        Assert.assertEquals(2, report.getDroppedFrames());
+        Assert.assertEquals(13 * FRAME_NANOS / 1000000f, report.getDurationMillis(), 0.01f);
+    }
+
+    @Test
+    public void sessionWithoutFrameIsNotReported() {
+        CalendarJankMonitor monitor = CalendarJankMonitor.attach(calendarView, listener);
+        monitor.onScrollStateChanged(calendarView, RecyclerView.SCROLL_STATE_DRAGGING);
+        monitor.onScrollStateChanged(calendarView, RecyclerView.SCROLL_STATE_IDLE);
+        Assert.assertTrue(reports.isEmpty());
+    }
+
+    @Test
+    public void detachDropsSessionInProgress() {
+        CalendarJankMonitor monitor = CalendarJankMonitor.attach(calendarView, listener);
+        monitor.onScrollStateChanged(calendarView, RecyclerView.SCROLL_STATE_DRAGGING);
+        monitor.onFrame(FRAME_NANOS);
+        monitor.onFrame(2 * FRAME_NANOS);
+
+        monitor.detach();
+        Assert.assertFalse(monitor.isRecording());
+        Assert.assertFalse(monitor.onFrame(3 * FRAME_NANOS));
+        Assert.assertTrue(reports.isEmpty());
+    }
+
+    /**
+     * Robolectric has no API 15 runtime, the version is lowered on the oldest one it has.
+     */
+    @Test
+    @Config(sdk = 16)
+    public void doesNothingBeforeJellyBean() {
+        final int sdkInt = Build.VERSION.SDK_INT;
+        ReflectionHelpers.setStaticField(Build.VERSION.class, "SDK_INT", 15);
+        try {
+            CalendarJankMonitor monitor = CalendarJankMonitor.attach(calendarView, listener);
+            monitor.onScrollStateChanged(calendarView, RecyclerView.SCROLL_STATE_DRAGGING);
+            Assert.assertFalse(monitor.isRecording());
+            Assert.assertFalse(monitor.onFrame(FRAME_NANOS));
+
+            monitor.onScrollStateChanged(calendarView, RecyclerView.SCROLL_STATE_IDLE);
+            monitor.detach();
+            Assert.assertTrue(reports.isEmpty());
+        } finally {
+            ReflectionHelpers.setStaticField(Build.VERSION.class, "SDK_INT", sdkInt);
+        }
+    }
+}
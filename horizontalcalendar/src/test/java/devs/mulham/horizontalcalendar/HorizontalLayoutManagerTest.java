@@ -0,0 +1,63 @@
+package devs.mulham.horizontalcalendar;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/**
+ * Week paging math, from left to right and from right to left.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 26)
+public class HorizontalLayoutManagerTest {
+
+    private static final int CELL_WIDTH = 100;
+    private static final int PADDING = 20;
+    // 7 cells and the paddings
+    private static final int WIDTH = 740;
+
+    @Test
+    public void distanceFromLeft() {
+        // third cell of the page at 170: the page start is at -30, 50 pixels before the left padding
+        Assert.assertEquals(-50, HorizontalLayoutManager.distanceToPageStart(170, 2, CELL_WIDTH, PADDING, false));
+        // page start already aligned
+        Assert.assertEquals(0, HorizontalLayoutManager.distanceToPageStart(PADDING, 0, CELL_WIDTH, PADDING, false));
+        Assert.assertEquals(0, HorizontalLayoutManager.distanceToPageStart(PADDING + 600, 6, CELL_WIDTH, PADDING, false));
+    }
+
+    @Test
+    public void distanceFromRight() {
+        final int startEdge = WIDTH - PADDING;
+        // the mirror of distanceFromLeft: the page start ends at 770, 50 pixels after the right padding
+        Assert.assertEquals(50, HorizontalLayoutManager.distanceToPageStart(470, 2, CELL_WIDTH, startEdge, true));
+        Assert.assertEquals(0, HorizontalLayoutManager.distanceToPageStart(startEdge - CELL_WIDTH, 0, CELL_WIDTH, startEdge, true));
+        Assert.assertEquals(0, HorizontalLayoutManager.distanceToPageStart(PADDING, 6, CELL_WIDTH, startEdge, true));
+    }
+
+    @Test
+    public void mirroredLayoutsScrollOppositeWays() {
+        for (int offset = -700; offset <= 700; offset += 13) {
+            for (int cellsBefore = 0; cellsBefore < 7; cellsBefore++) {
+                final int left = PADDING + offset + (cellsBefore * CELL_WIDTH);
+                final int mirroredLeft = WIDTH - left - CELL_WIDTH;
+                Assert.assertEquals(-HorizontalLayoutManager.distanceToPageStart(left, cellsBefore, CELL_WIDTH, PADDING, false),
+                        HorizontalLayoutManager.distanceToPageStart(mirroredLeft, cellsBefore, CELL_WIDTH, WIDTH - PADDING, true));
+            }
+        }
+    }
+
+    @Test
+    public void nearestPageStart() {
+        // less than half of the page scrolled out
+        Assert.assertEquals(14, HorizontalLayoutManager.nearestPageStart(14, -300, CELL_WIDTH, false));
+        Assert.assertEquals(14, HorizontalLayoutManager.nearestPageStart(14, 300, CELL_WIDTH, true));
+        // more than half
+        Assert.assertEquals(21, HorizontalLayoutManager.nearestPageStart(14, -400, CELL_WIDTH, false));
+        Assert.assertEquals(21, HorizontalLayoutManager.nearestPageStart(14, 400, CELL_WIDTH, true));
+        // aligned
+        Assert.assertEquals(14, HorizontalLayoutManager.nearestPageStart(14, 0, CELL_WIDTH, false));
+        Assert.assertEquals(14, HorizontalLayoutManager.nearestPageStart(14, 0, CELL_WIDTH, true));
+    }
+}
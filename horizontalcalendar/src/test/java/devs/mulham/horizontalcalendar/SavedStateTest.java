@@ -0,0 +1,116 @@
+package devs.mulham.horizontalcalendar;
+
+import android.content.pm.ApplicationInfo;
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.Calendar;
+
+/**
+ * The scroll position survives a Parcel, from left to right and from right to left.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 26)
+public class SavedStateTest {
+
+    private static final int CALENDAR_VIEW_ID = 1;
+    private static final int WIDTH = 520;
+    private static final int HEIGHT = 100;
+    private static final int FIRST_VISIBLE_POSITION = 20;
+    // the first visible cell is cut by the start edge
+    private static final int FIRST_VISIBLE_OFFSET = -30;
+
+    @Before
+    public void setUp() {
+        RuntimeEnvironment.application.getApplicationInfo().flags |= ApplicationInfo.FLAG_SUPPORTS_RTL;
+    }
+
+    @Test
+    public void restoresScrollPositionFromLeft() {
+        roundTrip(false);
+    }
+
+    @Test
+    public void restoresScrollPositionFromRight() {
+        roundTrip(true);
+    }
+
+    private void roundTrip(boolean rtl) {
+        final HorizontalCalendarView calendarView = newCalendarView(rtl);
+        layout(calendarView);
+        Assert.assertEquals(rtl, calendarView.getLayoutManager().isLayoutFromRight());
+        calendarView.getLayoutManager().scrollToPositionWithOffset(FIRST_VISIBLE_POSITION, FIRST_VISIBLE_OFFSET);
+        layout(calendarView);
+        Assert.assertEquals(FIRST_VISIBLE_OFFSET, startOffset(calendarView, FIRST_VISIBLE_POSITION));
+
+        final HorizontalCalendarView.SavedState state = parcel(calendarView.onSaveInstanceState());
+        Assert.assertEquals(FIRST_VISIBLE_OFFSET, state.firstVisibleOffset);
+
+        final HorizontalCalendarView restoredView = newCalendarView(rtl);
+        restoredView.onRestoreInstanceState(state);
+        layout(restoredView);
+        Assert.assertEquals(FIRST_VISIBLE_POSITION, restoredView.getLayoutManager().findFirstVisibleItemPosition());
+        Assert.assertEquals(FIRST_VISIBLE_OFFSET, startOffset(restoredView, FIRST_VISIBLE_POSITION));
+    }
+
+    private static HorizontalCalendarView newCalendarView(boolean rtl) {
+        ContextThemeWrapper context = new ContextThemeWrapper(RuntimeEnvironment.application,
+                android.support.v7.appcompat.R.style.Theme_AppCompat);
+        FrameLayout rootView = new FrameLayout(context);
+        HorizontalCalendarView calendarView = new HorizontalCalendarView(context);
+        calendarView.setId(CALENDAR_VIEW_ID);
+        // not symmetric, the offset is read from the padding of the start side
+        calendarView.setPadding(10, 0, 20, 0);
+        calendarView.setLayoutDirection(rtl ? View.LAYOUT_DIRECTION_RTL : View.LAYOUT_DIRECTION_LTR);
+        rootView.addView(calendarView);
+
+        Calendar startDate = Calendar.getInstance();
+        startDate.add(Calendar.MONTH, -1);
+        Calendar endDate = Calendar.getInstance();
+        endDate.add(Calendar.MONTH, 1);
+        new HorizontalCalendar.Builder(rootView, CALENDAR_VIEW_ID)
+                .range(startDate, endDate)
+                .datesNumberOnScreen(5)
+                .build();
+        return calendarView;
+    }
+
+    private static void layout(View view) {
+        view.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        view.layout(0, 0, WIDTH, HEIGHT);
+    }
+
+    /**
+     * @return distance from the start padding edge to the start side of the cell
+     */
+    private static int startOffset(HorizontalCalendarView calendarView, int position) {
+        final HorizontalLayoutManager layoutManager = calendarView.getLayoutManager();
+        final View cell = layoutManager.findViewByPosition(position);
+        return layoutManager.isLayoutFromRight()
+                ? calendarView.getWidth() - calendarView.getPaddingRight() - layoutManager.getDecoratedRight(cell)
+                : layoutManager.getDecoratedLeft(cell) - calendarView.getPaddingLeft();
+    }
+
+    private static HorizontalCalendarView.SavedState parcel(Parcelable state) {
+        final Parcel parcel = Parcel.obtain();
+        try {
+            state.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            return HorizontalCalendarView.SavedState.CREATOR.createFromParcel(parcel);
+        } finally {
+            parcel.recycle();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package devs.mulham.horizontalcalendar;
+
+import android.app.Activity;
+import android.util.DisplayMetrics;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Calendar;
+
+import devs.mulham.horizontalcalendar.adapter.CalendarViewPools;
+import devs.mulham.horizontalcalendar.adapter.HorizontalCalendarBaseAdapter;
+import devs.mulham.horizontalcalendar.utils.Utils;
+
+/**
+ * Scrolls a calendar of a Robolectric activity week by week from the start to the end of its range,
+ * a few pixels per simulated frame, and writes the cells created and bound, the allocated bytes and the
+ * wall time per frame to {@code build/reports/scroll-throughput.json}, once for each item layout.
+ * <p>
+ * Wall times only compare two runs of the same machine, they say nothing of a device.
+ * The range is 2 years, {@code -PbenchmarkYears=50} for a longer one.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 26)
+public class ScrollThroughputBenchmark {
+
+    private static final int CALENDAR_VIEW_ID = 1;
+    private static final int DATES_ON_SCREEN = 7;
+    private static final int FRAMES_PER_WEEK = 8;
+    private static final File REPORT_FILE = new File("build/reports/scroll-throughput.json");
+
+    private int years;
+
+    @Before
+    public void setUp() {
+        years = Integer.parseInt(System.getProperty("hc.benchmark.years", "2"));
+        // every run inflates its own cells
+        CalendarViewPools.clear();
+    }
+
+    @Test
+    public void scrollThroughRange() throws IOException {
+        Result classic = run(false);
+        CalendarViewPools.clear();
+        Result flat = run(true);
+
+        writeReport(classic, flat);
+
+        for (Result result : Arrays.asList(classic, flat)) {
+            Assert.assertTrue(result.layout + " bound no cell while scrolling", result.binds > 0);
+            // recycled cells are rebound, only the first frames may need a few more cells
+            Assert.assertTrue(result.layout + " created " + result.creates + " cells while scrolling",
+                    result.creates <= DATES_ON_SCREEN);
+        }
+    }
+
+    private Result run(boolean flatDayCells) {
+        ActivityController<Activity> controller = Robolectric.buildActivity(Activity.class);
+        controller.get().setTheme(android.support.v7.appcompat.R.style.Theme_AppCompat);
+        Activity activity = controller.setup().get();
+
+        FrameLayout rootView = new FrameLayout(activity);
+        HorizontalCalendarView calendarView = new HorizontalCalendarView(activity);
+        calendarView.setId(CALENDAR_VIEW_ID);
+        rootView.addView(calendarView);
+        activity.setContentView(rootView);
+
+        Calendar startDate = Calendar.getInstance();
+        Calendar endDate = Calendar.getInstance();
+        endDate.add(Calendar.YEAR, years);
+
+        HorizontalCalendar.Builder builder = new HorizontalCalendar.Builder(activity, CALENDAR_VIEW_ID)
+                .range(startDate, endDate)
+                .datesNumberOnScreen(DATES_ON_SCREEN);
+        if (flatDayCells) {
+            builder.flatDayCells();
+        }
+        HorizontalCalendar horizontalCalendar = builder.build();
+        HorizontalCalendarBaseAdapter<?, ?> adapter = (HorizontalCalendarBaseAdapter<?, ?>) calendarView.getAdapter();
+
+        DisplayMetrics metrics = activity.getResources().getDisplayMetrics();
+        layout(rootView, metrics.widthPixels, metrics.heightPixels);
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+
+        final int weekWidth = Utils.calculateCellWidth(activity, DATES_ON_SCREEN) * 7;
+        final int weeks = horizontalCalendar.getModel().getItemCount() / 7;
+        final int frames = weeks * FRAMES_PER_WEEK;
+        final long[] frameNanos = new long[frames];
+        final int initialCreates = adapter.getCreateCount();
+        final int initialBinds = adapter.getBindCount();
+
+        final long startBytes = allocatedBytes();
+        final long startNanos = System.nanoTime();
+        for (int frame = 0; frame < frames; frame++) {
+            final long frameStart = System.nanoTime();
+            // spread the week over the frames, without losing the remainder
+            int dx = (((frame % FRAMES_PER_WEEK) + 1) * weekWidth / FRAMES_PER_WEEK)
+                    - ((frame % FRAMES_PER_WEEK) * weekWidth / FRAMES_PER_WEEK);
+            calendarView.scrollBy(dx, 0);
+            frameNanos[frame] = System.nanoTime() - frameStart;
+        }
+        final long totalNanos = System.nanoTime() - startNanos;
+        final long allocated = (startBytes < 0) ? -1 : allocatedBytes() - startBytes;
+
+        controller.pause().stop().destroy();
+
+        Arrays.sort(frameNanos);
+        return new Result(flatDayCells ? "flat" : "classic", frames, initialCreates,
+                adapter.getCreateCount() - initialCreates, adapter.getBindCount() - initialBinds,
+                allocated, totalNanos, frameNanos);
+    }
+
+    private static void layout(View view, int width, int height) {
+        view.measure(View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY));
+        view.layout(0, 0, width, height);
+    }
+
+    private void writeReport(Result... results) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"years\": ").append(years)
+                .append(",\n  \"datesOnScreen\": ").append(DATES_ON_SCREEN)
+                .append(",\n  \"framesPerWeek\": ").append(FRAMES_PER_WEEK)
+                .append(",\n  \"runs\": [");
+        for (int i = 0; i < results.length; i++) {
+            json.append((i == 0) ? "\n" : ",\n");
+            results[i].appendTo(json);
+        }
+        json.append("\n  ]\n}\n");
+
+        File parent = REPORT_FILE.getParentFile();
+        if ((parent != null) && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("cannot create " + parent);
+        }
+        Writer writer = new FileWriter(REPORT_FILE);
+        try {
+            writer.write(json.toString());
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * @return bytes allocated by this thread so far, or -1 if the JVM does not measure it
+     */
+    private static long allocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static final class Result {
+
+        final String layout;
+        final int frames;
+        final int initialCreates;
+        final int creates;
+        final int binds;
+        final long allocatedBytes;
+        final long totalNanos;
+        // sorted
+        final long[] frameNanos;
+
+        Result(String layout, int frames, int initialCreates, int creates, int binds,
+               long allocatedBytes, long totalNanos, long[] frameNanos) {
+            this.layout = layout;
+            this.frames = frames;
+            this.initialCreates = initialCreates;
+            this.creates = creates;
+            this.binds = binds;
+            this.allocatedBytes = allocatedBytes;
+            this.totalNanos = totalNanos;
+            this.frameNanos = frameNanos;
+        }
+
+        /**
+         * Nearest rank percentile of the frame times
+         */
+        long percentile(int percent) {
+            int rank = (int) Math.ceil((percent / 100.0) * frames);
+            return frameNanos[Math.max(rank, 1) - 1];
+        }
+
+        void appendTo(StringBuilder json) {
+            json.append("    {\"layout\": \"").append(layout).append('"')
+                    .append(", \"frames\": ").append(frames)
+                    .append(", \"initialCreates\": ").append(initialCreates)
+                    .append(", \"creates\": ").append(creates)
+                    .append(", \"binds\": ").append(binds)
+                    .append(", \"bindsPerFrame\": ").append(binds / (double) frames)
+                    .append(", \"allocatedBytesPerFrame\": ").append((allocatedBytes < 0) ? -1 : allocatedBytes / frames)
+                    .append(", \"totalMillis\": ").append(totalNanos / 1000000.0)
+                    .append(", \"p50FrameMicros\": ").append(percentile(50) / 1000.0)
+                    .append(", \"p90FrameMicros\": ").append(percentile(90) / 1000.0)
+                    .append(", \"p99FrameMicros\": ").append(percentile(99) / 1000.0)
+                    .append(", \"maxFrameMicros\": ").append(frameNanos[frames - 1] / 1000.0)
+                    .append('}');
+        }
+    }
+}
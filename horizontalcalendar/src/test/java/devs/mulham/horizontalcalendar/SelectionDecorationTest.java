@@ -0,0 +1,112 @@
+package devs.mulham.horizontalcalendar;
+
+import android.app.Activity;
+import android.graphics.Color;
+import android.support.v7.widget.RecyclerView;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.TextView;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.util.Scheduler;
+
+import java.util.Calendar;
+
+/**
+ * The decoration draws the selected background and the selector, the selected cell still takes the selected text colors.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 26)
+public class SelectionDecorationTest {
+
+    private static final int CALENDAR_VIEW_ID = 1;
+    private static final int NORMAL_COLOR = Color.GRAY;
+    private static final int SELECTED_COLOR = Color.RED;
+    private static final int TODAY_COLOR = Color.BLUE;
+    private static final int WIDTH = 500;
+    private static final int HEIGHT = 100;
+
+    private HorizontalCalendar horizontalCalendar;
+    private HorizontalCalendarView calendarView;
+    private Scheduler scheduler;
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        ContextThemeWrapper context = new ContextThemeWrapper(activity,
+                android.support.v7.appcompat.R.style.Theme_AppCompat);
+        FrameLayout rootView = new FrameLayout(context);
+        calendarView = new HorizontalCalendarView(context);
+        calendarView.setId(CALENDAR_VIEW_ID);
+        rootView.addView(calendarView);
+        // attached to a window, so the posted selections run
+        activity.setContentView(rootView);
+
+        Calendar startDate = Calendar.getInstance();
+        startDate.add(Calendar.MONTH, -1);
+        Calendar endDate = Calendar.getInstance();
+        endDate.add(Calendar.MONTH, 1);
+
+        horizontalCalendar = new HorizontalCalendar.Builder(rootView, CALENDAR_VIEW_ID)
+                .range(startDate, endDate)
+                .datesNumberOnScreen(5)
+                .selectionDecoration()
+                .configure()
+                    .textColor(NORMAL_COLOR, SELECTED_COLOR, TODAY_COLOR)
+                .end()
+                .build();
+
+        scheduler = Robolectric.getForegroundThreadScheduler();
+        scheduler.advanceToLastPostedRunnable();
+        Assert.assertTrue(horizontalCalendar.isSelectionDecorated());
+        Assert.assertNotEquals(-1, horizontalCalendar.getSelectedDatePosition());
+        layout();
+    }
+
+    @Test
+    public void selectedCellTakesSelectedTextColors() {
+        // away from today, which keeps the today colors
+        final int firstPosition = positionAfterToday(10);
+        final int secondPosition = positionAfterToday(11);
+
+        select(firstPosition);
+        Assert.assertEquals(SELECTED_COLOR, middleTextColor(firstPosition));
+
+        select(secondPosition);
+        Assert.assertEquals(SELECTED_COLOR, middleTextColor(secondPosition));
+        Assert.assertEquals(NORMAL_COLOR, middleTextColor(firstPosition));
+    }
+
+    private void layout() {
+        calendarView.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        calendarView.layout(0, 0, WIDTH, HEIGHT);
+    }
+
+    private int positionAfterToday(int days) {
+        Calendar date = Calendar.getInstance();
+        date.add(Calendar.DATE, days);
+        return horizontalCalendar.positionOfDate(date);
+    }
+
+    private void select(int position) {
+        horizontalCalendar.scrollToPositionWhenClicked(position);
+        scheduler.advanceToLastPostedRunnable();
+        // rebinds the cells marked by the selection change
+        layout();
+        Assert.assertEquals(position, horizontalCalendar.getSelectedDatePosition());
+    }
+
+    private int middleTextColor(int position) {
+        RecyclerView.ViewHolder holder = calendarView.findViewHolderForAdapterPosition(position);
+        Assert.assertNotNull(holder);
+        return ((TextView) holder.itemView.findViewById(R.id.hc_text_middle)).getCurrentTextColor();
+    }
+}
@@ -0,0 +1,149 @@
+package devs.mulham.horizontalcalendar;
+
+import android.app.Activity;
+import android.view.ContextThemeWrapper;
+import android.widget.FrameLayout;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.util.Scheduler;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import devs.mulham.horizontalcalendar.model.CalendarDay;
+import devs.mulham.horizontalcalendar.utils.HorizontalCalendarListener;
+import devs.mulham.horizontalcalendar.utils.SelectionDispatchPolicy;
+
+/**
+ * Coalesced and debounced selections only report the last date, the date reported before is cancelled.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 26)
+public class SelectionDispatcherTest {
+
+    private static final int CALENDAR_VIEW_ID = 1;
+    private static final long DEBOUNCE_MILLIS = 300;
+
+    private final List<String> events = new ArrayList<>();
+    private HorizontalCalendar horizontalCalendar;
+    private Scheduler scheduler;
+    private int today;
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        ContextThemeWrapper context = new ContextThemeWrapper(activity,
+                android.support.v7.appcompat.R.style.Theme_AppCompat);
+        FrameLayout rootView = new FrameLayout(context);
+        HorizontalCalendarView calendarView = new HorizontalCalendarView(context);
+        calendarView.setId(CALENDAR_VIEW_ID);
+        rootView.addView(calendarView);
+        // attached to a window, so the posted reports run
+        activity.setContentView(rootView);
+
+        Calendar startDate = Calendar.getInstance();
+        startDate.add(Calendar.MONTH, -1);
+        Calendar endDate = Calendar.getInstance();
+        endDate.add(Calendar.MONTH, 1);
+
+        horizontalCalendar = new HorizontalCalendar.Builder(rootView, CALENDAR_VIEW_ID)
+                .range(startDate, endDate)
+                .datesNumberOnScreen(5)
+                .build();
+        today = CalendarDay.epochDayOf(Calendar.getInstance());
+
+        scheduler = Robolectric.getForegroundThreadScheduler();
+        scheduler.advanceToLastPostedRunnable();
+        scheduler.pause();
+
+        horizontalCalendar.setCalendarListener(new HorizontalCalendarListener() {
+            @Override
+            public void onDateSelected(Calendar date, int position) {
+                events.add("selected " + CalendarDay.epochDayOf(date));
+            }
+
+            @Override
+            public void onDateSelectionCancelled(Calendar date, int position) {
+                events.add("cancelled " + CalendarDay.epochDayOf(date));
+            }
+        });
+    }
+
+    @Test
+    public void immediateReportsEverySelection() {
+        SelectionDispatcher dispatcher = new SelectionDispatcher(horizontalCalendar, SelectionDispatchPolicy.immediate());
+        dispatcher.dispatch(today + 1);
+        dispatcher.dispatch(today + 2);
+
+        Assert.assertEquals(events(
+                "selected " + (today + 1),
+                "cancelled " + (today + 1), "selected " + (today + 2)), events);
+    }
+
+    @Test
+    public void coalescedSelectionsOfAFrameReportTheLast() {
+        SelectionDispatcher dispatcher = new SelectionDispatcher(horizontalCalendar, SelectionDispatchPolicy.coalesceToFrame());
+        dispatcher.dispatch(today + 1);
+        scheduler.advanceToLastPostedRunnable();
+        Assert.assertEquals(events("selected " + (today + 1)), events);
+
+        events.clear();
+        dispatcher.dispatch(today + 2);
+        dispatcher.dispatch(today + 3);
+        dispatcher.dispatch(today + 4);
+        Assert.assertTrue(events.isEmpty());
+
+        scheduler.advanceToLastPostedRunnable();
+        Assert.assertEquals(events("cancelled " + (today + 1), "selected " + (today + 4)), events);
+    }
+
+    @Test
+    public void debouncedSelectionsReportTheLastOnceSettled() {
+        SelectionDispatcher dispatcher = new SelectionDispatcher(horizontalCalendar,
+                SelectionDispatchPolicy.debounce(DEBOUNCE_MILLIS));
+        dispatcher.dispatch(today + 1);
+        scheduler.advanceBy(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(events("selected " + (today + 1)), events);
+
+        events.clear();
+        dispatcher.dispatch(today + 2);
+        scheduler.advanceBy(DEBOUNCE_MILLIS - 100, TimeUnit.MILLISECONDS);
+        // restarts the delay
+        dispatcher.dispatch(today + 3);
+        scheduler.advanceBy(DEBOUNCE_MILLIS - 100, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(events.isEmpty());
+
+        scheduler.advanceBy(100, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(events("cancelled " + (today + 1), "selected " + (today + 3)), events);
+    }
+
+    @Test
+    public void reselectingTheReportedDateReportsNothing() {
+        SelectionDispatcher dispatcher = new SelectionDispatcher(horizontalCalendar, SelectionDispatchPolicy.coalesceToFrame());
+        dispatcher.dispatch(today + 1);
+        scheduler.advanceToLastPostedRunnable();
+        events.clear();
+
+        // moved away and back within the frame
+        dispatcher.dispatch(today + 2);
+        dispatcher.dispatch(today + 1);
+        scheduler.advanceToLastPostedRunnable();
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    private static List<String> events(String... events) {
+        List<String> list = new ArrayList<>();
+        for (String event : events) {
+            list.add(event);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,136 @@
+package devs.mulham.horizontalcalendar.adapter;
+
+import android.view.ContextThemeWrapper;
+import android.widget.FrameLayout;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.lang.management.ManagementFactory;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+
+import devs.mulham.horizontalcalendar.HorizontalCalendar;
+import devs.mulham.horizontalcalendar.HorizontalCalendarView;
+
+/**
+ * Fails when binding a date cell starts allocating again in steady state.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 26)
+public class DaysAdapterAllocationTest {
+
+    private static final int CALENDAR_VIEW_ID = 1;
+    private static final int BINDS = 10000;
+
+    // measuring allocated bytes allocates a little by itself
+    private static final long MEASURE_OVERHEAD_BYTES = 1024;
+
+    private DaysAdapter adapter;
+    private DateViewHolder holder;
+    private int todayPosition;
+
+    @Before
+    public void setUp() {
+        ContextThemeWrapper context = new ContextThemeWrapper(RuntimeEnvironment.application,
+                android.support.v7.appcompat.R.style.Theme_AppCompat);
+        FrameLayout rootView = new FrameLayout(context);
+        HorizontalCalendarView calendarView = new HorizontalCalendarView(context);
+        calendarView.setId(CALENDAR_VIEW_ID);
+        rootView.addView(calendarView);
+
+        Calendar startDate = Calendar.getInstance();
+        startDate.add(Calendar.MONTH, -2);
+        Calendar endDate = Calendar.getInstance();
+        endDate.add(Calendar.MONTH, 2);
+
+        HorizontalCalendar horizontalCalendar = new HorizontalCalendar.Builder(rootView, CALENDAR_VIEW_ID)
+                .range(startDate, endDate)
+                .datesNumberOnScreen(7)
+                .build();
+
+        adapter = (DaysAdapter) horizontalCalendar.getCalendarView().getAdapter();
+        holder = adapter.onCreateViewHolder(calendarView, 0);
+        todayPosition = horizontalCalendar.positionOfToday;
+    }
+
+    @Test
+    public void rebindingCachedDatesDoesNotAllocate() {
+        Assume.assumeTrue(isAllocationMeasurable());
+        // as a scroll back and forth over a few weeks, every label is cached after the warm up
+        final int from = todayPosition - 14;
+        final int count = 29;
+        warmUp(from, count);
+
+        long before = allocatedBytes();
+        for (int i = 0; i < BINDS; i++) {
+            adapter.onBindViewHolder(holder, from + (i % count));
+        }
+        long allocated = allocatedBytes() - before;
+
+        Assert.assertTrue("onBindViewHolder allocated " + allocated + " bytes for " + BINDS + " binds",
+                allocated < MEASURE_OVERHEAD_BYTES);
+    }
+
+    @Test
+    public void selectorRebindDoesNotAllocate() {
+        Assume.assumeTrue(isAllocationMeasurable());
+        final List<Object> payloads = Collections.<Object>singletonList("UPDATE_SELECTOR");
+        warmUp(todayPosition, 1);
+
+        long before = allocatedBytes();
+        for (int i = 0; i < BINDS; i++) {
+            adapter.onBindViewHolder(holder, todayPosition, payloads);
+        }
+        long allocated = allocatedBytes() - before;
+
+        Assert.assertTrue("payload onBindViewHolder allocated " + allocated + " bytes for " + BINDS + " binds",
+                allocated < MEASURE_OVERHEAD_BYTES);
+    }
+
+    @Test
+    public void scrollingBackOverSameWeeksDoesNotFormat() {
+        final int from = todayPosition - 14;
+        final int to = todayPosition + 14;
+        for (int position = from; position <= to; position++) {
+            adapter.onBindViewHolder(holder, position);
+        }
+        final long misses = adapter.getMiddleLabelCache().getMissCount();
+
+        for (int pass = 0; pass < 3; pass++) {
+            for (int position = to; position >= from; position--) {
+                adapter.onBindViewHolder(holder, position);
+            }
+        }
+
+        Assert.assertEquals(misses, adapter.getMiddleLabelCache().getMissCount());
+        Assert.assertEquals(misses, adapter.getTopLabelCache().getMissCount());
+        Assert.assertEquals(misses, adapter.getBottomLabelCache().getMissCount());
+    }
+
+    private void warmUp(int from, int count) {
+        for (int i = 0; i < 100; i++) {
+            for (int position = from; position < from + count; position++) {
+                adapter.onBindViewHolder(holder, position);
+            }
+        }
+        allocatedBytes();
+    }
+
+    private static boolean isAllocationMeasurable() {
+        return (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)
+                && ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).isThreadAllocatedMemoryEnabled();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,228 @@
+package devs.mulham.horizontalcalendar.utils;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.Executor;
+
+import devs.mulham.horizontalcalendar.model.CalendarDay;
+import devs.mulham.horizontalcalendar.model.CalendarItemStyle;
+import devs.mulham.horizontalcalendar.model.DateRange;
+import devs.mulham.horizontalcalendar.model.SelectionModel;
+import devs.mulham.horizontalcalendar.model.ZoneDays;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 26)
+public class DisabledDatesIndexTest {
+
+    private static final ZoneDays ZONE_DAYS = new ZoneDays(TimeZone.getTimeZone("Europe/Paris"));
+    private static final int START_DAY = 19700;
+    private static final int END_DAY = START_DAY + 99;
+
+    private final Set<Integer> disabledDays = new HashSet<>();
+    private final HorizontalCalendarPredicate predicate = new HorizontalCalendarPredicate() {
+        @Override
+        public boolean test(Calendar date) {
+            return disabledDays.contains(CalendarDay.epochDayOf(date));
+        }
+
+        @Override
+        public CalendarItemStyle style() {
+            return null;
+        }
+    };
+
+    @Before
+    public void setUp() {
+        // results posted to the main thread wait for runUiThreadTasks()
+        ShadowLooper.pauseMainLooper();
+    }
+
+    @Test
+    public void buildsOnCallingThread() {
+        disabledDays.add(START_DAY + 10);
+        disabledDays.add(START_DAY + 40);
+        disabledDays.add(END_DAY + 1);
+
+        DisabledDatesIndex index = new DisabledDatesIndex(predicate, null, ZONE_DAYS);
+        final boolean[] readyCalled = new boolean[1];
+        index.build(START_DAY, END_DAY, new Runnable() {
+            @Override
+            public void run() {
+                readyCalled[0] = true;
+            }
+        });
+
+        Assert.assertTrue(readyCalled[0]);
+        Assert.assertTrue(index.covers(START_DAY));
+        Assert.assertTrue(index.covers(END_DAY));
+        Assert.assertFalse(index.covers(END_DAY + 1));
+        Assert.assertTrue(index.isDisabled(START_DAY + 10));
+        Assert.assertFalse(index.isDisabled(START_DAY + 11));
+        Assert.assertEquals(START_DAY + 10, index.firstDisabled(START_DAY, END_DAY));
+        Assert.assertEquals(START_DAY + 40, index.firstDisabled(START_DAY + 11, END_DAY));
+        Assert.assertEquals(SelectionModel.DisabledDays.NONE, index.firstDisabled(START_DAY + 41, END_DAY));
+        Assert.assertEquals(SelectionModel.DisabledDays.NONE, index.firstDisabled(START_DAY + 11, START_DAY + 39));
+    }
+
+    @Test
+    public void invalidateRetestsRange() {
+        DisabledDatesIndex index = new DisabledDatesIndex(predicate, null, ZONE_DAYS);
+        index.build(START_DAY, END_DAY, null);
+
+        disabledDays.add(START_DAY + 5);
+        Assert.assertFalse(index.isDisabled(START_DAY + 5));
+        Assert.assertTrue(index.invalidate(new DateRange(START_DAY, START_DAY + 7)));
+        Assert.assertTrue(index.isDisabled(START_DAY + 5));
+    }
+
+    @Test
+    public void backgroundBuildIsPublishedOnMainThread() {
+        QueueExecutor executor = new QueueExecutor();
+        DisabledDatesIndex index = new DisabledDatesIndex(predicate, executor, ZONE_DAYS);
+        disabledDays.add(START_DAY + 3);
+
+        index.build(START_DAY, END_DAY, null);
+        Assert.assertFalse(index.isReady());
+        Assert.assertFalse(index.covers(START_DAY + 3));
+
+        executor.runAll();
+        Assert.assertFalse(index.isReady());
+
+        ShadowLooper.runUiThreadTasks();
+        Assert.assertTrue(index.isReady());
+        Assert.assertTrue(index.isDisabled(START_DAY + 3));
+    }
+
+    @Test
+    public void invalidateDuringBuildIsAppliedOnPublish() {
+        QueueExecutor executor = new QueueExecutor();
+        DisabledDatesIndex index = new DisabledDatesIndex(predicate, executor, ZONE_DAYS);
+
+        index.build(START_DAY, END_DAY, null);
+        // the build tests the days before the predicate changes
+        executor.runAll();
+
+        disabledDays.add(START_DAY + 20);
+        Assert.assertFalse(index.invalidate(new DateRange(START_DAY + 20, START_DAY + 20)));
+
+        ShadowLooper.runUiThreadTasks();
+        Assert.assertTrue(index.isReady());
+        Assert.assertTrue(index.isDisabled(START_DAY + 20));
+
+        // already applied, a later change is not picked from the pending list again
+        disabledDays.remove(START_DAY + 20);
+        index.build(START_DAY, END_DAY, null);
+        executor.runAll();
+        ShadowLooper.runUiThreadTasks();
+        Assert.assertFalse(index.isDisabled(START_DAY + 20));
+    }
+
+    @Test
+    public void staleBuildIsDropped() {
+        QueueExecutor executor = new QueueExecutor();
+        DisabledDatesIndex index = new DisabledDatesIndex(predicate, executor, ZONE_DAYS);
+        final int[] readyCount = new int[1];
+        Runnable onReady = new Runnable() {
+            @Override
+            public void run() {
+                readyCount[0]++;
+            }
+        };
+
+        index.build(START_DAY, END_DAY, onReady);
+        index.build(START_DAY + 50, END_DAY + 50, onReady);
+        executor.runAll();
+        ShadowLooper.runUiThreadTasks();
+
+        Assert.assertEquals(1, readyCount[0]);
+        Assert.assertFalse(index.covers(START_DAY));
+        Assert.assertTrue(index.covers(END_DAY + 50));
+    }
+
+    @Test
+    public void slideKeepsDaysStillInRange() {
+        disabledDays.add(START_DAY + 30);
+        disabledDays.add(END_DAY + 5);
+        disabledDays.add(START_DAY - 5);
+
+        DisabledDatesIndex index = new DisabledDatesIndex(predicate, null, ZONE_DAYS);
+        index.build(START_DAY, END_DAY, null);
+        // days already indexed are not tested again, the old answer stays
+        disabledDays.remove(START_DAY + 30);
+
+        Assert.assertTrue(index.slide(20, null));
+        Assert.assertFalse(index.covers(START_DAY + 19));
+        Assert.assertTrue(index.covers(END_DAY + 20));
+        Assert.assertTrue(index.isDisabled(START_DAY + 30));
+        Assert.assertTrue(index.isDisabled(END_DAY + 5));
+        Assert.assertFalse(index.isDisabled(END_DAY + 6));
+
+        Assert.assertTrue(index.slide(-30, null));
+        Assert.assertTrue(index.covers(START_DAY - 10));
+        Assert.assertFalse(index.covers(END_DAY));
+        Assert.assertTrue(index.isDisabled(START_DAY - 5));
+        Assert.assertTrue(index.isDisabled(START_DAY + 30));
+        Assert.assertEquals(START_DAY - 5, index.firstDisabled(START_DAY - 10, END_DAY - 10));
+
+        // by the whole length, nothing to keep
+        Assert.assertFalse(index.slide(100, null));
+    }
+
+    @Test
+    public void slideTestsEnteringDaysInBackground() {
+        QueueExecutor executor = new QueueExecutor();
+        DisabledDatesIndex index = new DisabledDatesIndex(predicate, executor, ZONE_DAYS);
+        index.build(START_DAY, END_DAY, null);
+        executor.runAll();
+        ShadowLooper.runUiThreadTasks();
+
+        disabledDays.add(END_DAY + 3);
+        final boolean[] readyCalled = new boolean[1];
+        Assert.assertTrue(index.slide(10, new Runnable() {
+            @Override
+            public void run() {
+                readyCalled[0] = true;
+            }
+        }));
+        // the kept days are still covered, the entering ones once tested
+        Assert.assertTrue(index.covers(END_DAY));
+        Assert.assertFalse(index.covers(END_DAY + 3));
+        // a second slide waits for the first one
+        Assert.assertFalse(index.slide(10, null));
+
+        executor.runAll();
+        ShadowLooper.runUiThreadTasks();
+        Assert.assertTrue(readyCalled[0]);
+        Assert.assertTrue(index.covers(END_DAY + 3));
+        Assert.assertTrue(index.isDisabled(END_DAY + 3));
+    }
+
+    private static final class QueueExecutor implements Executor {
+
+        private final List<Runnable> queue = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            queue.add(command);
+        }
+
+        void runAll() {
+            for (Runnable runnable : queue) {
+                runnable.run();
+            }
+            queue.clear();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package devs.mulham.horizontalcalendar.utils;
+
+import android.text.format.DateFormat;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+
+import devs.mulham.horizontalcalendar.model.CalendarDay;
+import devs.mulham.horizontalcalendar.model.CalendarSystem;
+
+/**
+ * The compiled patterns must format exactly as {@link DateFormat}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 26)
+public class LocaleFormatsTest {
+
+    private static final String[] PATTERNS = {"d", "dd", "EEE", "EEEE", "MM", "MMM", "MMMM", "yy", "yyyy",
+            "EEEE d MMMM yyyy", "'Day' dd", "'o''clock' d", "hh:mm"};
+
+    private final Locale defaultLocale = Locale.getDefault();
+
+    @After
+    public void tearDown() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @Test
+    public void formatsAsDateFormat() {
+        Calendar date = new GregorianCalendar(2024, Calendar.MARCH, 5);
+        for (Locale locale : new Locale[]{Locale.US, Locale.FRANCE, new Locale("ar", "EG")}) {
+            Locale.setDefault(locale);
+            for (String pattern : PATTERNS) {
+                Assert.assertEquals(locale + " " + pattern, DateFormat.format(pattern, date).toString(),
+                        LocaleFormats.get().format(pattern, date).toString());
+            }
+        }
+    }
+
+    @Test
+    public void formatsOtherCalendarSystems() {
+        Locale.setDefault(Locale.US);
+        Calendar date = new GregorianCalendar(2023, Calendar.MARCH, 23);
+        int epochDay = CalendarDay.epochDayOf(date);
+
+        Assert.assertEquals("Thu 23 Mar 2566", LocaleFormats.get().format("EEE d MMM yyyy", date,
+                CalendarSystem.BUDDHIST, CalendarSystem.BUDDHIST.dateOf(epochDay)).toString());
+        Assert.assertEquals("1 Ramadan 1444", LocaleFormats.get().format("d MMMM yyyy", date,
+                CalendarSystem.HIJRI, CalendarSystem.HIJRI.dateOf(epochDay)).toString());
+    }
+
+    @Test
+    public void sameInstanceUntilLocaleChanges() {
+        Locale.setDefault(Locale.US);
+        LocaleFormats formats = LocaleFormats.get();
+        Assert.assertSame(formats, LocaleFormats.get());
+        Assert.assertEquals("Tuesday", formats.getWeekdayName(Calendar.TUESDAY));
+
+        Locale.setDefault(Locale.FRANCE);
+        Assert.assertNotSame(formats, LocaleFormats.get());
+
+        LocaleFormats.invalidate();
+        Locale.setDefault(Locale.US);
+        Assert.assertNotSame(formats, LocaleFormats.get());
+    }
+}